@@ -11,6 +11,7 @@ import ca.couchware.wezzle2d.animation.AnimationAdapter;
 import ca.couchware.wezzle2d.animation.FadeAnimation;
 import ca.couchware.wezzle2d.animation.IAnimation;
 import ca.couchware.wezzle2d.animation.MoveAnimation;
+import ca.couchware.wezzle2d.audio.LibraryOfflineMixer;
 import ca.couchware.wezzle2d.audio.Sound;
 import ca.couchware.wezzle2d.difficulty.GameDifficulty;
 import ca.couchware.wezzle2d.event.GameEvent;
@@ -42,6 +43,7 @@ import edu.stanford.ejalbert.BrowserLauncher;
 import java.applet.Applet;
 import java.applet.AppletContext;
 import java.awt.Canvas;
+import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.security.MessageDigest;
@@ -49,6 +51,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.EnumSet;
 import java.util.List;
+import paulscode.sound.Library;
 import paulscode.sound.SoundSystem;
 import paulscode.sound.SoundSystemConfig;
 import paulscode.sound.SoundSystemException;
@@ -182,6 +185,12 @@ public class Game implements IWindowCallback
     /** The game difficulty setting. */
     private GameDifficulty difficulty = GameDifficulty.NORMAL;
 
+    /** The system property that picks the sound library. */
+    final private static String AUDIO_PROPERTY = "wezzle.audio";
+
+    /** The system property that names the offline mixer's output file. */
+    final private static String AUDIO_FILE_PROPERTY = "wezzle.audio.file";
+
     private SoundSystem soundSystem;   
 
     public SoundSystem getSoundSystem()
@@ -248,15 +257,37 @@ public class Game implements IWindowCallback
     /**
      * Start the sound system, load the appropriate modules,
      * poo your pants, etc.
+     *
+     * The library is picked with the wezzle.audio system property: "openal"
+     * (the default) plays through OpenAL, "null" plays nothing and "offline"
+     * mixes everything to the WAV file named by wezzle.audio.file.  If
+     * the library can't be started, the null library is used instead.
      */
     public void startSoundSystem()
     {
         SoundSystemConfig.setSoundFilesPackage("");
         try
         {
-            soundSystem = new SoundSystem(LibraryLWJGLOpenAL.class);            
             SoundSystemConfig.setCodec("wav", CodecWav.class);
             SoundSystemConfig.setCodec("ogg", CodecJOgg.class);
+
+            final Class<? extends Library> library = getSoundLibrary();
+
+            try
+            {
+                soundSystem = new SoundSystem(library);
+            }
+            catch (SoundSystemException ex)
+            {
+                if (library == Library.class)
+                    throw ex;
+
+                CouchLogger.get().recordException(Game.class, ex);
+                CouchLogger.get().recordWarning(Game.class,
+                        SoundSystemConfig.getLibraryTitle(library)
+                        + " could not be started, sound is disabled.");
+                soundSystem = new SoundSystem(Library.class);
+            }
         }
         catch (SoundSystemException ex)
         {
@@ -264,6 +295,41 @@ public class Game implements IWindowCallback
         }
     }
 
+    /**
+     * Determine which sound library to use.
+     *
+     * @return The sound library class.
+     */
+    private static Class<? extends Library> getSoundLibrary()
+    {
+        final String audio = System.getProperty(AUDIO_PROPERTY, "openal");
+
+        if (audio.equals("null"))
+        {
+            return Library.class;
+        }
+
+        if (audio.equals("offline"))
+        {
+            final String file = System.getProperty(AUDIO_FILE_PROPERTY);
+
+            if (file != null)
+            {
+                LibraryOfflineMixer.setOutputFile(new File(file));
+            }
+
+            return LibraryOfflineMixer.class;
+        }
+
+        if (!audio.equals("openal"))
+        {
+            CouchLogger.get().recordWarning(Game.class,
+                    "Unknown audio library \"" + audio + "\", using OpenAL.");
+        }
+
+        return LibraryLWJGLOpenAL.class;
+    }
+
     /**
      * Open a url in a new browser window.
      *
@@ -324,7 +390,7 @@ public class Game implements IWindowCallback
 
                 // Create the layer manager transition animation.
                 transitionTo = TransitionTarget.MENU;
-                this.transition = new CircularTransition.Builder(mainMenu).minRadius(10).speed(400).build();
+                this.transition = new CircularTransition.Builder(win, mainMenu).minRadius(10).speed(400).build();
                 setDrawer(transition);
 
                 this.transition.addAnimationListener(new AnimationAdapter()
@@ -531,7 +597,7 @@ public class Game implements IWindowCallback
 
                 // Create the layer manager transition animation.
                 this.transitionTo = TransitionTarget.GAME;
-                this.transition = new CircularTransition.Builder(hub.layerMan).minRadius(10).speed(400).build();
+                this.transition = new CircularTransition.Builder(win, hub.layerMan).minRadius(10).speed(400).build();
                 setDrawer(transition);
 
                 this.transition.addAnimationListener(new AnimationAdapter()
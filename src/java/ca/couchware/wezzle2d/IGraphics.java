@@ -34,6 +34,13 @@ public interface IGraphics
      */
     public void setColor(CouchColor color);
     
+    /**
+     * Set the drawing color from a packed ARGB int.
+     * 
+     * @param argb
+     */
+    public void setColor(int argb);
+    
     /**
      * Get the drawing color.
      * 
@@ -41,6 +48,13 @@ public interface IGraphics
      */
     public CouchColor getColor();
     
+    /**
+     * Get the drawing color as a packed ARGB int.
+     * 
+     * @return The current color.
+     */
+    public int getPackedColor();
+    
     public void drawLine(int x1, int y1, int x2, int y2);
     
     public void drawEllipse(double x, double y, double width, double height, int points);
@@ -114,4 +128,32 @@ public interface IGraphics
      * @return
      */
     public Shape getClip();
+    
+    //--------------------------------------------------------------------------
+    // Capture
+    //--------------------------------------------------------------------------	   
+    
+    /**
+     * Copies what is currently on the screen so that it can be drawn back 
+     * later.  Any previous capture is replaced.
+     */
+    public void captureScreen();
+    
+    /**
+     * Draws the captured screen everywhere except inside the given ellipse.
+     * Does nothing if the screen has not been captured.
+     * 
+     * @param x
+     * @param y
+     * @param width
+     * @param height
+     */
+    public void drawCapturedScreenAroundEllipse(
+            double x, double y, 
+            double width, double height);
+    
+    /**
+     * Releases the captured screen.
+     */
+    public void releaseCapturedScreen();
 }
@@ -269,6 +269,7 @@ public class ManagerHub
             // Create the achievement manager.
             achievementMan = AchievementManager.newInstance(settingsMan);
             
+            listenerMan.registerListener(Listener.GAME, achievementMan);
             listenerMan.registerListener(Listener.COLLISION, achievementMan);
         }                     
     }            
@@ -8,16 +8,13 @@ package ca.couchware.wezzle2d;
 import ca.couchware.wezzle2d.manager.Achievement;
 import ca.couchware.wezzle2d.manager.Achievement.Numerator;
 import ca.couchware.wezzle2d.manager.AchievementManager;
-import ca.couchware.wezzle2d.tile.Tile;
-import ca.couchware.wezzle2d.tile.TileHelper;
 import ca.couchware.wezzle2d.tile.TileType;
-import ca.couchware.wezzle2d.tracker.Move;
+import ca.couchware.wezzle2d.tracker.Chain;
+import ca.couchware.wezzle2d.tracker.CollisionPattern;
 import ca.couchware.wezzle2d.tracker.Tracker;
 import ca.couchware.wezzle2d.util.Node;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 /*
@@ -109,6 +106,27 @@ public class Rule
     protected final Status status;
     protected final List<Numerator> numeratorList;
     protected final DenominatorType denominatorType;
+
+    /** The interned item tree of a collision rule. */
+    private final CollisionPattern collisionPattern;
+
+    /** The rule compiled down to a test of the game state. */
+    private final Predicate predicate;
+
+    /**
+     * A test of the game state, built once when the rule is created.
+     */
+    private static interface Predicate
+    {
+        public boolean test(Game game, ManagerHub hub);
+    }
+
+    /** The predicate of rules that are not tested against the game state. */
+    private static final Predicate FALSE = new Predicate()
+    {
+        public boolean test(Game game, ManagerHub hub)
+        { return false; }
+    };
     
     //--------------------------------------------------------------------------
     // Constructor
@@ -141,10 +159,29 @@ public class Rule
         this.operation = operation;
         this.value = value;
         this.itemSubTree = null;
+        this.collisionPattern = null;
         this.achievementNameList = null;
         this.numeratorList = null;
         this.denominatorType = null;
         status = Status.COMPLETE;
+
+        switch (type)
+        {
+            case COLLISION:
+                throw new IllegalArgumentException("Collision rules need an item tree");
+
+            case META:
+                checkComparison(operation);
+                this.predicate = FALSE;
+                break;
+
+            case RATE:
+                throw new IllegalArgumentException("Rate rules need a numerator and denominator");
+
+            default:
+                checkComparison(operation);
+                this.predicate = compileComparison(type, operation, value);
+        }
     }
 
     public Rule(Type type, Operation operation, Node<Set<TileType>> tree)
@@ -165,11 +202,13 @@ public class Rule
         this.type = type;
         this.operation = operation;
         this.itemSubTree = tree;
+        this.collisionPattern = CollisionPattern.intern(tree);
         this.value = -1;
         this.achievementNameList = null;
         this.numeratorList = null;
         this.denominatorType = null;
         status = Status.COMPLETE;
+        this.predicate = FALSE;
     }
 
     public Rule(Type type, List<Numerator> numeratorList,
@@ -202,8 +241,10 @@ public class Rule
         this.operation = denominatorOp;
         this.value = denominatorValue;
         this.itemSubTree = null;        
+        this.collisionPattern = null;
         this.achievementNameList = null;
         this.status = Status.COMPLETE;
+        this.predicate = compileRate(numeratorList, denominatorType, denominatorOp, denominatorValue);
     }
 
      public Rule (Type type, Operation operation, int value, List<String> achievementNameList, Status status)
@@ -225,10 +266,14 @@ public class Rule
         this.operation = operation;
         this.value = value;
         this.itemSubTree = null;
+        this.collisionPattern = null;
         this.achievementNameList = achievementNameList;
         this.status = status;
         this.numeratorList = null;
         this.denominatorType = null;
+
+        checkComparison(operation);
+        this.predicate = FALSE;
      }
     
     public void onMatch()
@@ -256,106 +301,133 @@ public class Rule
         if (hub == null)
             throw new IllegalArgumentException("Hub cannot be null");
 
-        
-        // Make sure we're not a COLLISION-type.
-        if (this.type == Type.COLLISION)
-            return false;
+        return predicate.test(game, hub);
+    }
 
-        // Make sure we're not a META-type.
-        if (this.type == Type.META)
-            return false;
+    /**
+     * Make sure an operation compares against a single value.
+     *
+     * @param operation
+     */
+    private static void checkComparison(Operation operation)
+    {
+        if (operation == Operation.BETWEEN)
+            throw new IllegalArgumentException("Unsupported operation: " + operation);
+    }
 
-        if(this.type == Type.RATE)
+    /**
+     * Compile a rule that compares a game state value.
+     *
+     * @param type The type of rule, which reads the value.
+     * @param operation The operation to perform.
+     * @param value The value being tested for.
+     * @return The predicate.
+     */
+    private static Predicate compileComparison(final Type type,
+            final Operation operation, final int value)
+    {
+        return new Predicate()
         {
-            return evaluateRate(game.getTracker());
-        }
-        
-        // Find the appropriate field value from the type.
-        int x = -1;          
-        // Check the type.
-        switch (getType())
+            public boolean test(Game game, ManagerHub hub)
+            { return compare(operation, getInput(type, game, hub), value); }
+        };
+    }
+
+    /**
+     * Get the game state value that rules of the given type depend on.  For
+     * rate rules this is the number of moves, which the rate depends on.
+     *
+     * @param type The type of rule.
+     * @param game
+     * @param hub
+     * @return The value.
+     */
+    public static int getInput(Type type, Game game, ManagerHub hub)
+    {
+        switch (type)
         {
             case SCORE:
-                x = hub.scoreMan.getTotalScore();
-                break;
-                
+                return hub.scoreMan.getTotalScore();
+
             case LEVEL:
-                x = hub.levelMan.getLevel();
-                break;
-                
+                return hub.levelMan.getLevel();
+
             case MOVES:
-                x = hub.statMan.getMoveCount();
-                break;
-                
+                return hub.statMan.getMoveCount();
+
             case LINES:
-                x = hub.statMan.getLineCount();
-                break;
-                
+                return hub.statMan.getLineCount();
+
             case START_LEVEL:
-                x = hub.statMan.getStartLevel();
-                break;
-                
+                return hub.statMan.getStartLevel();
+
+            case RATE:
+                return game.getTracker().getMoveCount();
+
             default:
-                throw new IllegalArgumentException("Unknown type");                
+                throw new IllegalArgumentException("Type has no input: " + type);
         }
-                                  
-        // If the test is successful, return true, otherwise, return false         
-        switch (getOperation())
+    }
+
+    /**
+     * Compare a value against the value being tested for.  The operation
+     * must have been checked with checkComparison().
+     *
+     * @param operation The operation to perform.
+     * @param x The value.
+     * @param value The value being tested for.
+     * @return True if the comparison holds, false otherwise.
+     */
+    private static boolean compare(Operation operation, int x, int value)
+    {
+        switch (operation)
         {
-            case GT:
-                if (x > getValue())
-                    return true;
-                break;
-                
             case LT:
-                 if (x < getValue())
-                    return true;
-                break;
-                
+                return x < value;
+
+            case LTEQ:
+                return x <= value;
+
             case EQ:
-                 if (x == getValue())
-                    return true;
-                break;
-                
+                return x == value;
+
             case GTEQ:
-                if (x >= getValue())
-                    return true;
-                break;
-                
-            case LTEQ:
-                 if (x <= getValue())
-                    return true;
-                break;
-                
+                return x >= value;
+
+            case GT:
+                return x > value;
+
             default:
-                throw new IllegalArgumentException("Unknown operation");
+                throw new AssertionError(operation);
         }
-        
-        return false;
     }
 
-
-    public boolean evaluateRate(Tracker tracker)
+    /**
+     * Compile a rate rule.  The numerators become parallel arrays of the
+     * counts to read, their operations and their values.
+     *
+     * @return The predicate.
+     */
+    private static Predicate compileRate(List<Numerator> numeratorList,
+            DenominatorType denominatorType, Operation denominatorOp, int denominatorValue)
     {
-        // Get the denominator;
-        List<Move> moveList = null;
+        // Get the denominator.
+        final int numMoves;
 
-        switch (this.denominatorType)
+        switch (denominatorType)
         {
             case MOVE:
-            
-                switch (this.operation)
+
+                switch (denominatorOp)
                 {
                     case LTEQ:
-                    {
-                        moveList = tracker.getHistory(value);
+                        numMoves = denominatorValue;
                         break;
-                    }
+
                     case LT:
-                    {
-                        moveList = tracker.getHistory(value - 1);
+                        numMoves = denominatorValue - 1;
                         break;
-                    }
+
                     default:
                         throw new IllegalArgumentException("Illegal operation");
                 }
@@ -365,143 +437,72 @@ public class Rule
                 throw new IllegalArgumentException("Unknown denominator type");
         }
 
-        // Moves should not be null here.
-        assert (moveList != null);
+        if (numMoves < 0)
+            throw new IllegalArgumentException("Move denominator cannot be negative");
 
-        // If we have no moves, false.
-        if (moveList.isEmpty()) return false;
+        // If its a collision, we don't want the sub-type.
+        List<Numerator> countedList = new ArrayList<Numerator>();
 
-        // Build a map of all values within the history;
-        Map<NumeratorSubType, Integer> countMap = tracker.getCounts(moveList);
-
-        // Go through the hashmap testing all the cases.
-        for ( Numerator n : numeratorList )
+        for (Numerator n : numeratorList)
         {
-            // If its a collision, we don't want the sub-type.
-            if ( n.subType == null )
+            if (n.subType == null)
                 continue;
 
-            int countValue = countMap.get(n.subType);
-            int numeratorValue = n.value;
+            checkComparison(n.operation);
+            countedList.add(n);
+        }
+
+        final int size = countedList.size();
+        final NumeratorSubType[] subTypes = new NumeratorSubType[size];
+        final Operation[] operations = new Operation[size];
+        final int[] values = new int[size];
 
-            switch(n.operation)
+        for (int i = 0; i < size; i++)
+        {
+            subTypes[i] = countedList.get(i).subType;
+            operations[i] = countedList.get(i).operation;
+            values[i] = countedList.get(i).value;
+        }
+
+        return new Predicate()
+        {
+            public boolean test(Game game, ManagerHub hub)
             {
-                case LT:
-                
-                    if (countValue >= numeratorValue)
-                        return false;
+                final Tracker tracker = game.getTracker();
 
-                    break;
-                
-                case LTEQ:
-                
-                   if (countValue > numeratorValue)
-                        return false;
-                    break;
-                
-                case EQ:
-                
-                    if (countValue != numeratorValue)
-                        return false;
-                    break;
-                
-                case GT:
-                
-                    if (countValue <= numeratorValue)
-                        return false;
-                    break;
-                
-                case GTEQ:
-                
-                    if (countValue < numeratorValue)
+                // If we have no moves, false.
+                if (Math.min(numMoves, tracker.getHistorySize()) == 0)
+                    return false;
+
+                for (int i = 0; i < subTypes.length; i++)
+                {
+                    int count = tracker.getCount(subTypes[i], numMoves);
+
+                    if (!compare(operations[i], count, values[i]))
                         return false;
-                    break;
-               
-                default: throw new AssertionError("Unknown operation");
-            } // end switch
-        } // end for
+                }
 
-        return true;
+                return true;
+            }
+        };
     }
 
     /**
      * A special evaluate for collisions.  Will always return false for
      * non-collision achievements.
      * 
-     * @param tileTree
+     * @param chain
      * @return
      */
-    public boolean evaluateCollision(Node<Tile> tileTree)
+    public boolean evaluateCollision(Chain chain)
     {
-        if (tileTree == null)
-            throw new NullPointerException("Tile tree must not be null");
+        if (chain == null)
+            throw new NullPointerException("Chain must not be null");
 
         if (this.type != Type.COLLISION)
             return false;                
 
-        //CouchLogger.get().recordMessage(this.getClass(), this.itemSubTree.toString());
-
-        // This filter is used with the .findAll() method of the Node class
-        // to find all item tiles.
-        Node.Filter<Tile> filter = new Node.Filter<Tile>()
-        {
-            @Override
-            public boolean apply(Tile nodeTile, Tile notUsed)
-            { return TileHelper.getItemTileTypeSet().contains(nodeTile.getType()); }
-        };
-
-        // Right here, we are finding all item tiles in the tree.  These will
-        // be searched for the item sub-tree if it's not found in the root.
-        // We add the tile tree root at the beginning of the list so that it is
-        // searched first.
-        List<Node<Tile>> targetSubTreeList = tileTree.findAll(filter);
-        targetSubTreeList.add(0, tileTree);
-        for ( Node<Tile> subTree : targetSubTreeList )
-        {
-            if (isSubTree(subTree, this.itemSubTree))
-            {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
-    /**
-     * Check if <code>subTree</code> is a sub-tree of <code>tree</code>.
-     * @param tree
-     * @param subTree
-     * @return
-     */
-    private boolean isSubTree(Node<Tile> tree, Node<Set<TileType>> subTree)
-    {
-        // If the subtree has no children, then we return true.
-        if (subTree.getChildren().isEmpty()) return true;
-
-        // If the tree has no children, but the subtree does, then return false.
-        if (tree.getChildren().isEmpty()) return false;
-
-        // Get an iterator for the children of the subtree.
-        Iterator<Node<Set<TileType>>> subTreeIt = subTree.getChildren().iterator();
-
-        // We know we have at least one child, so this is fine.
-        Node<Set<TileType>> targetNode = subTreeIt.next();
-
-        // Set to true if this is a sub tree.
-        boolean match = false;
-
-        // Cycle through the children of the tree, looking for matches.
-        for ( Node<Tile> node : tree.getChildren() )
-        {
-            if (targetNode.getData().contains(node.getData().getType())
-                    && isSubTree(node, targetNode))
-            {
-                if (subTreeIt.hasNext()) targetNode = subTreeIt.next();
-                else match = true;
-            }
-        }
-
-        return match;
+        return chain.matches(this.collisionPattern);
     }
 
     /**
@@ -552,47 +553,7 @@ public class Rule
             x = achievementList.size();
         }
 
-        switch (this.operation)
-        {
-            case GT:
-                if (x > this.getValue())
-                {
-                    return true;
-                }
-                break;
-
-            case LT:
-                if (x < getValue())
-                {
-                    return true;
-                }
-                break;
-
-            case EQ:
-                if (x == getValue())
-                {
-                    return true;
-                }
-                break;
-
-            case GTEQ:
-                if (x >= getValue())
-                {
-                    return true;
-                }
-                break;
-
-            case LTEQ:
-                if (x <= getValue())
-                {
-                    return true;
-                }
-                break;
-
-            default: throw new AssertionError();
-        }
-
-        return false;
+        return compare(this.operation, x, getValue());
     }
 
     //--------------------------------------------------------------------------
@@ -15,8 +15,6 @@ import ca.couchware.wezzle2d.manager.ListenerManager.GameType;
 import ca.couchware.wezzle2d.animation.IAnimation;
 import ca.couchware.wezzle2d.audio.Sound;
 import ca.couchware.wezzle2d.event.ILevelListener;
-import ca.couchware.wezzle2d.event.LineEvent;
-import ca.couchware.wezzle2d.event.MoveEvent;
 import ca.couchware.wezzle2d.manager.AnimationManager;
 import ca.couchware.wezzle2d.manager.BoardManager;
 import ca.couchware.wezzle2d.manager.IResettable;
@@ -220,7 +218,7 @@ public class TileRemover implements IResettable, ILevelListener
                     if (!this.levelUpInProgress)
                     {
                         // Fire the move completed event.
-                        listenerMan.notifyMoveCompleted(new MoveEvent(this, 1));
+                        listenerMan.notifyMoveCompleted(this, 1);
                         
                         // The move is completed. Build the move.                        
                         Move move = game.getTracker().finishMove();
@@ -229,6 +227,10 @@ public class TileRemover implements IResettable, ILevelListener
 
                         // Evaluate the achievements.
                         hub.achievementMan.evaluate(game, hub);                        
+
+                        // Nothing reads the tiles of the finished move any
+                        // more, so they can be recycled.
+                        hub.boardMan.releaseRemovedTiles();
                     }
                     
                     // Start the next move.
@@ -408,14 +410,14 @@ public class TileRemover implements IResettable, ILevelListener
         //  Handle any lines we may have had.       
         if (hub.tutorialMan.isTutorialRunning())
         {
-            hub.listenerMan.notifyLineConsumed(new LineEvent(
-                    hub.statMan.getCycleLineCount(), this),
+            hub.listenerMan.notifyLineConsumed(this,
+                    hub.statMan.getCycleLineCount(),
                     GameType.TUTORIAL);
         }
         else
         {
-            hub.listenerMan.notifyLineConsumed(new LineEvent(
-                    hub.statMan.getCycleLineCount(), this),
+            hub.listenerMan.notifyLineConsumed(this,
+                    hub.statMan.getCycleLineCount(),
                     GameType.GAME);
         }                
 
@@ -30,6 +30,7 @@ import ca.couchware.wezzle2d.group.DemoOverGroup;
 import ca.couchware.wezzle2d.group.GameOverGroup;
 import ca.couchware.wezzle2d.group.HelpGroup;
 import ca.couchware.wezzle2d.group.HighScoreGroup;
+import ca.couchware.wezzle2d.group.LazyGroup;
 import ca.couchware.wezzle2d.group.OptionsGroup;
 import ca.couchware.wezzle2d.group.PauseGroup;
 import ca.couchware.wezzle2d.piece.PieceGrid;
@@ -40,6 +41,7 @@ import ca.couchware.wezzle2d.manager.Settings;
 import ca.couchware.wezzle2d.manager.Settings.Key;
 import ca.couchware.wezzle2d.manager.SettingsManager;
 import ca.couchware.wezzle2d.piece.Piece;
+import ca.couchware.wezzle2d.tutorial.ITutorial;
 import ca.couchware.wezzle2d.ui.Box;
 import ca.couchware.wezzle2d.ui.Box.Border;
 import ca.couchware.wezzle2d.ui.IButton;
@@ -150,8 +152,8 @@ public class UI implements
     private IButton highScoreButton;
 
     private PauseGroup pauseGroup;      
-    private OptionsGroup optionsGroup;
-    private HelpGroup helpGroup;
+    private LazyGroup<OptionsGroup> optionsGroup;
+    private LazyGroup<HelpGroup> helpGroup;
     private HighScoreGroup highScoreGroup;
     private GameOverGroup gameOverGroup;
     private DemoOverGroup demoOverGroup;
@@ -168,6 +170,29 @@ public class UI implements
      */
     private List<Rule> ruleList;
 
+    /**
+     * Whether or not the rules need to be evaluated on the next update.
+     */
+    private boolean rulesDirty = true;
+
+    /**
+     * Whether or not the score or level may have changed since the labels 
+     * were last updated.
+     */
+    private boolean labelsDirty = true;
+
+    /** The high score currently shown in the high score label. */
+    private int displayedHighScore = -1;
+
+    /** The level currently shown in the level label. */
+    private int displayedLevel = -1;
+
+    /** The score currently shown in the score label. */
+    private int displayedScore = -1;
+
+    /** The tutorial whose name is shown in the level label, if any. */
+    private ITutorial displayedTutorial;
+
     /**
      * Private constructor to ensure singletonness.
      */
@@ -484,7 +509,7 @@ public class UI implements
      *
      * @param game
      */
-    private void initializeGroups(IWindow win, Game game)
+    private void initializeGroups(final IWindow win, final Game game)
     {        
         // Initialize pause group.                
         this.pauseGroup = new PauseGroup(hub);
@@ -494,12 +519,42 @@ public class UI implements
         hub.listenerMan.registerListener(Listener.LINE, this.pauseGroup);
         hub.listenerMan.registerListener(Listener.GAME, this.pauseGroup);                     
         
-        // Initialize options group.
-        this.optionsGroup = new OptionsGroup(win, hub);
+        // The options group is only built when it is first opened.
+        this.optionsGroup = new LazyGroup<OptionsGroup>()
+        {
+            @Override
+            protected OptionsGroup create()
+            {
+                OptionsGroup group = new OptionsGroup(win, hub);
+                hub.groupMan.register(group);
+                return group;
+            }
+
+            @Override
+            protected void release(OptionsGroup group)
+            {
+                hub.groupMan.unregister(group);
+            }
+        };
         hub.groupMan.register(this.optionsGroup);
 
-        // Initialize help group.
-        this.helpGroup = new HelpGroup(win, game, hub);
+        // Likewise for the help group.
+        this.helpGroup = new LazyGroup<HelpGroup>()
+        {
+            @Override
+            protected HelpGroup create()
+            {
+                HelpGroup group = new HelpGroup(win, game, hub);
+                hub.groupMan.register(group);
+                return group;
+            }
+
+            @Override
+            protected void release(HelpGroup group)
+            {
+                hub.groupMan.unregister(group);
+            }
+        };
         hub.groupMan.register(this.helpGroup);
         
         // Initialize high score group.
@@ -857,7 +912,13 @@ public class UI implements
      */
     public void updateLogic(Game game, ManagerHub hub)
     {
-        evaluateRules( game, hub );
+        // All the UI rules are level rules, so they only need to be 
+        // checked when the level changes.
+        if (rulesDirty)
+        {
+            rulesDirty = false;
+            evaluateRules( game, hub );
+        }
         
         if (!Game.isApplet() && highScoreButton.clicked())
         {
@@ -900,7 +961,7 @@ public class UI implements
             hub.soundMan.play( Sound.CLICK_LIGHT );
             if (optionsButton.isActivated())  
             {                
-                hub.groupMan.showGroup(optionsButton, optionsGroup,
+                hub.groupMan.showGroup(optionsButton, optionsGroup.get(),
                         GroupManager.Type.OPTIONS,
                         GroupManager.Layer.MIDDLE);            
             }
@@ -918,7 +979,7 @@ public class UI implements
             hub.soundMan.play( Sound.CLICK_LIGHT );
             if (helpButton.isActivated())
             {
-                hub.groupMan.showGroup(helpButton, helpGroup,
+                hub.groupMan.showGroup(helpButton, helpGroup.get(),
                         GroupManager.Type.HELP,
                         GroupManager.Layer.MIDDLE);
             }
@@ -931,42 +992,70 @@ public class UI implements
             }
         } // end if
 
-        if (!highScoreLabel.getText().equals(String.valueOf(hub.scoreMan.getHighScore())))        
-            highScoreLabel.setText(String.format("%,d", hub.scoreMan.getHighScore()));
-                                
-        if ( !hub.tutorialMan.isTutorialRunning() )
+        // The tutorials don't fire any events when they start or stop, so
+        // watch for that here.  It's just a reference comparison.
+        final ITutorial tutorial = hub.tutorialMan.getRunningTutorial();
+        
+        if (tutorial != displayedTutorial)
         {
-            if ( !levelLabel.getText().equals(
-                    String.valueOf( hub.levelMan.getLevel() ) ) )
-            {
-                levelLabel.setText( String.valueOf( hub.levelMan.getLevel() ) );
-            }
-
-            if ( !scoreLabel.getText().equals(
-                    String.valueOf( hub.scoreMan.getTotalScore() ) ) )
-            {
-                scoreLabel.setText( String.format( "%,d", hub.scoreMan.
-                        getTotalScore() ) );
-            }
+            displayedTutorial = tutorial;
+            displayedLevel = -1;
+            displayedScore = -1;
+            labelsDirty = true;
         }
-        else
+        
+        if (labelsDirty) updateLabels();
+    }
+    
+    /**
+     * Brings the high score, level and score labels up to date with the
+     * managers.  A label's text is only reformatted if the value it shows
+     * has actually changed.
+     */
+    private void updateLabels()
+    {
+        labelsDirty = false;
+        
+        final int highScore = hub.scoreMan.getHighScore();
+        
+        if (highScore != displayedHighScore)
         {
-            if ( !levelLabel.getText().equals(
-                    hub.tutorialMan.getRunningTutorial().getName() ) )
-            {
-                levelLabel.setText( hub.tutorialMan.getRunningTutorial().getName() );
-            }
-
-            if ( !scoreLabel.getText().equals( "" ) )
-            {
-                scoreLabel.setText( "" );
-            }
-
-        } // end if      
+            displayedHighScore = highScore;
+            highScoreLabel.setText(String.format("%,d", highScore));
+        }
+        
+        if (displayedTutorial != null)
+        {
+            if (!levelLabel.getText().equals(displayedTutorial.getName()))
+                levelLabel.setText(displayedTutorial.getName());
+            
+            if (scoreLabel.getText().length() != 0)
+                scoreLabel.setText("");
+            
+            return;
+        }
+        
+        final int level = hub.levelMan.getLevel();
+        
+        if (level != displayedLevel)
+        {
+            displayedLevel = level;
+            levelLabel.setText(String.valueOf(level));
+        }
+        
+        final int score = hub.scoreMan.getTotalScore();
+        
+        if (score != displayedScore)
+        {
+            displayedScore = score;
+            scoreLabel.setText(String.format("%,d", score));
+        }
     }
 
     public void levelChanged(LevelEvent event)
     {
+        this.rulesDirty = true;
+        this.labelsDirty = true;
         this.progressBar.setProgressUpper(event.getNextTargetLevelScore());
     }
 
@@ -977,6 +1066,8 @@ public class UI implements
     
     public void scoreChanged(ScoreEvent event)
     {       
+        this.labelsDirty = true;
+
         // Update the progress bar.
         this.progressBar.setProgressValue(event.getScore());       
     }
@@ -1012,6 +1103,9 @@ public class UI implements
     
     public void gameStarted(GameEvent event)
     {        
+        this.rulesDirty = true;
+        this.labelsDirty = true;
+
         Background bg = getBackgroundForLevel( event.getLevel() );
         setBackgroundTo( bg );
     }
@@ -1019,6 +1113,8 @@ public class UI implements
     public void gameReset(GameEvent event)
     {
         this.ruleList = new ArrayList<Rule>(this.masterRuleList);
+        this.rulesDirty = true;
+        this.labelsDirty = true;
 
         Background bg = getBackgroundForLevel( event.getLevel() );        
         IAnimation animation = animateBackgroundTo( bg );
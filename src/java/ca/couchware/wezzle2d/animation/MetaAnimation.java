@@ -12,6 +12,10 @@ import java.util.List;
 /**
  * An animation that may contain 1 or more normal animations.  Can be configured
  * to signal that it is done based on a variety of criteria.
+ * <p>
+ * When run as a sequence, the animations are stepped through with a cursor.
+ * A step may be a group of animations that run in parallel (see 
+ * {@link Builder#addGroup(IAnimation[])}).
  * 
  * @author cdmckay
  */
@@ -50,35 +54,80 @@ public class MetaAnimation extends AbstractAnimation
     private final RunRule runRule;
     private final FinishRule finishRule;
     
-    private final List<IAnimation> animationList;
+    /**
+     * The steps of the sequence.  Each step is a group of one or more
+     * animations that are run in parallel.  Under the simultaneous run rule
+     * there is only ever one step.
+     */
+    private final IAnimation[][] steps;
+    
+    /**
+     * The index of the step currently being run.
+     */
+    private int cursor = 0;
     
     private MetaAnimation(Builder builder)
     {
         this.runRule = builder.runRule;
         this.finishRule = builder.finishRule;
-        this.animationList = builder.animationList;
         
-        if (this.animationList.isEmpty() == true)        
+        switch (runRule)
+        {
+            case SIMULTANEOUS:
+                
+                // Flatten every group into one parallel step.
+                List<IAnimation> all = new ArrayList<IAnimation>();
+                for (IAnimation[] group : builder.stepList)
+                    for (IAnimation a : group)
+                        all.add(a);
+                
+                this.steps = all.isEmpty()
+                        ? new IAnimation[0][]
+                        : new IAnimation[][] { all.toArray(new IAnimation[all.size()]) };
+                break;
+                
+            case SEQUENCE:
+                
+                this.steps = builder.stepList.toArray(new IAnimation[builder.stepList.size()][]);
+                break;
+                
+            default: throw new AssertionError();
+        }
+        
+        if (this.steps.length == 0)
             setFinished();        
     }
     
     public static class Builder implements IBuilder<MetaAnimation>
     {
-        private final List<IAnimation> animationList;        
+        private final List<IAnimation[]> stepList;        
         
         private RunRule runRule = RunRule.SIMULTANEOUS;
         private FinishRule finishRule = FinishRule.FIRST;        
         
         public Builder()
         {
-            this.animationList = new ArrayList<IAnimation>();
+            this.stepList = new ArrayList<IAnimation[]>();
         }
         
         public Builder add(IAnimation val) 
-        { animationList.add(val); return this; }
+        { stepList.add(new IAnimation[] { val }); return this; }
         
         public Builder addAll(List<IAnimation> val)
-        { animationList.addAll(val); return this; }
+        { for (IAnimation a : val) add(a); return this; }
+        
+        /**
+         * Adds a group of animations that are run in parallel as a single
+         * step of the sequence.  The step is done when all of the animations
+         * in the group are done.
+         */
+        public Builder addGroup(IAnimation... val)
+        {
+            if (val.length == 0)
+                throw new IllegalArgumentException("Group must not be empty");
+            
+            stepList.add(val.clone()); return this;
+        }
         
         public Builder runRule(RunRule val)
         { runRule = val; return this; }
@@ -95,8 +144,6 @@ public class MetaAnimation extends AbstractAnimation
     @Override
     public void nextFrame()
     {
-        long delta = 14;
-        
         // Make sure we've set the started flag.
         setStarted();
         
@@ -106,12 +153,12 @@ public class MetaAnimation extends AbstractAnimation
         {            
             case SIMULTANEOUS:
                 
-                handleSimultaneousRule(delta);
+                handleSimultaneousRule();
                 break;
                 
             case SEQUENCE:
                 
-                handleSequenceRule(delta);
+                handleSequenceRule();
                 break;
                 
             default: throw new AssertionError();            
@@ -125,22 +172,21 @@ public class MetaAnimation extends AbstractAnimation
         {
             this.finished = true;
 
-            for ( IAnimation a : animationList )
-                a.setFinished();
+            for ( IAnimation[] group : steps )
+                for ( IAnimation a : group )
+                    a.setFinished();
 
             // Run the on-finish runnable.
             //onFinish();
             this.fireAnimationFinishedEvent();
         }
     }
-
+    
     /**
      * This method handles the behavoiur of the meta animation if the
      * simultaneous run rule.
-     * 
-     * @param delta
      */
-    private void handleSimultaneousRule(long delta)
+    private void handleSimultaneousRule()
     {
         // A temporary variable holding the finished status.
         boolean f;
@@ -154,7 +200,7 @@ public class MetaAnimation extends AbstractAnimation
                 
                     // Cycle through the animation list.  If we find that
                     // one animation is done, then the meta animation is done.
-                    for (IAnimation a : animationList)
+                    for (IAnimation a : steps[0])
                     {
                         a.nextFrame();
                         if (a.isFinished() == true)
@@ -165,17 +211,7 @@ public class MetaAnimation extends AbstractAnimation
                 
             case ALL:
                 
-                    // Assume we are finished.
-                    f = true;
-                
-                    // Cycle through the animation list.  If we find at least
-                    // one animation that is not done, then we keep going.
-                    for (IAnimation a : animationList)
-                    {
-                        a.nextFrame();
-                        if (a.isFinished() == false)
-                            f = false;
-                    }                                        
+                    f = nextFrameAll(steps[0]);                    
                 
                 break;
                                 
@@ -189,26 +225,45 @@ public class MetaAnimation extends AbstractAnimation
     /**
      * This method handles the behavoiur of the meta animation if the
      * sequence run rule.
-     * 
-     * @param delta
      */
-    private void handleSequenceRule(long delta)
+    private void handleSequenceRule()
     {               
-        // The animation list must not be empty if we got to this point.
-        assert animationList.isEmpty() == false;
+        // The cursor must be in range if we got to this point.
+        assert cursor < steps.length;
         
-        // If there are animations left, then we run the first one until it is
-        // done, then remove it and do the next one and so on.
-        IAnimation a = animationList.get(0);
-        a.nextFrame();
-        if (a.isFinished() == true) animationList.remove(0);
+        // Run the current step until all of its animations are done, then
+        // move the cursor to the next one.
+        if (nextFrameAll(steps[cursor]) == true) cursor++;
         
-         // If there are no animations left, then we are done.
-        if (animationList.isEmpty() == true)
+         // If there are no steps left, then we are done.
+        if (cursor == steps.length)
         {
             setFinished();
             return;
         }
     }
+    
+    /**
+     * Advances every animation in the group by one frame.
+     * 
+     * @param group The group of animations.
+     * @return True if every animation in the group is finished.
+     */
+    private static boolean nextFrameAll(IAnimation[] group)
+    {
+        // Assume we are finished.
+        boolean f = true;
+        
+        // Cycle through the group.  If we find at least one animation that 
+        // is not done, then we keep going.
+        for (IAnimation a : group)
+        {
+            a.nextFrame();
+            if (a.isFinished() == false)
+                f = false;
+        }
+        
+        return f;
+    }
 
 }
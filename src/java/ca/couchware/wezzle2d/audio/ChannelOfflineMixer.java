@@ -0,0 +1,251 @@
+/*
+ *  Wezzle
+ *  Copyright (c) 2007-2010 Couchware Inc.  All rights reserved.
+ */
+package ca.couchware.wezzle2d.audio;
+
+import java.util.LinkedList;
+import javax.sound.sampled.AudioFormat;
+import paulscode.sound.Channel;
+import paulscode.sound.SoundBuffer;
+import paulscode.sound.SoundSystemConfig;
+
+/**
+ * A channel of the offline mixer.  Instead of handing its audio to a device,
+ * the channel keeps the PCM data it was given and lets the mixer pull
+ * samples out of it.  Normal channels play one attached buffer, streaming
+ * channels play a queue of buffers that the stream thread keeps topped up.
+ *
+ * @author cdmckay
+ */
+public class ChannelOfflineMixer extends Channel
+{
+    private enum State
+    {
+        STOPPED, PLAYING, PAUSED
+    }
+
+    private State state = State.STOPPED;
+
+    /** The format of the data being played. */
+    private AudioFormat format;
+
+    /** The buffer being played by a normal channel. */
+    private byte[] buffer;
+
+    /** The buffers queued on a streaming channel, oldest first. */
+    private final LinkedList<byte[]> queue = new LinkedList<byte[]>();
+
+    /** The number of queued buffers that have been played through. */
+    private int processed = 0;
+
+    /** The position, in frames, within the current buffer. */
+    private double position = 0.0;
+
+    public ChannelOfflineMixer(int type)
+    {
+        super(type);
+        libraryType = LibraryOfflineMixer.class;
+    }
+
+    /**
+     * Attaches the buffer to be played by a normal channel.
+     *
+     * @param soundBuffer
+     */
+    public synchronized void attachBuffer(SoundBuffer soundBuffer)
+    {
+        buffer = soundBuffer.audioData;
+        format = soundBuffer.audioFormat;
+        position = 0.0;
+    }
+
+    @Override
+    public synchronized void setAudioFormat(AudioFormat audioFormat)
+    {
+        format = audioFormat;
+    }
+
+    @Override
+    public synchronized boolean preLoadBuffers(LinkedList<byte[]> bufferList)
+    {
+        queue.clear();
+        queue.addAll(bufferList);
+        processed = 0;
+        position = 0.0;
+        return true;
+    }
+
+    @Override
+    public synchronized boolean queueBuffer(byte[] data)
+    {
+        queue.add(data);
+        return true;
+    }
+
+    @Override
+    public synchronized int buffersProcessed()
+    {
+        return processed;
+    }
+
+    @Override
+    public synchronized boolean processBuffer()
+    {
+        if (processed == 0)
+            return false;
+
+        queue.removeFirst();
+        processed--;
+        return true;
+    }
+
+    @Override
+    public synchronized void flush()
+    {
+        queue.clear();
+        processed = 0;
+        position = 0.0;
+    }
+
+    @Override
+    public synchronized void close()
+    {
+        stop();
+        buffer = null;
+    }
+
+    @Override
+    public synchronized void play()
+    {
+        // Like OpenAL, playing a stopped channel starts it from the top.
+        if (state == State.STOPPED && channelType == SoundSystemConfig.TYPE_NORMAL)
+        {
+            position = 0.0;
+        }
+
+        state = State.PLAYING;
+    }
+
+    @Override
+    public synchronized void pause()
+    {
+        if (state == State.PLAYING)
+        {
+            state = State.PAUSED;
+        }
+    }
+
+    @Override
+    public synchronized void stop()
+    {
+        state = State.STOPPED;
+
+        if (channelType == SoundSystemConfig.TYPE_STREAMING)
+        {
+            flush();
+        }
+    }
+
+    @Override
+    public synchronized void rewind()
+    {
+        if (channelType == SoundSystemConfig.TYPE_NORMAL)
+        {
+            position = 0.0;
+        }
+    }
+
+    @Override
+    public synchronized boolean playing()
+    {
+        if (state != State.PLAYING)
+            return false;
+
+        if (channelType == SoundSystemConfig.TYPE_STREAMING)
+            return queue.size() > processed;
+
+        return buffer != null;
+    }
+
+    /**
+     * Adds the next frames of this channel to an interleaved stereo mix.
+     * The channel's data is resampled to the mix rate by nearest neighbour.
+     *
+     * @param mix The stereo mix, two floats per frame.
+     * @param frames The number of frames to mix.
+     * @param sampleRate The sample rate of the mix.
+     * @param gain The gain to apply to this channel.
+     */
+    synchronized void mix(float[] mix, int frames, float sampleRate, float gain)
+    {
+        if (!playing() || format == null || gain <= 0f)
+            return;
+
+        final boolean streaming = channelType == SoundSystemConfig.TYPE_STREAMING;
+        final boolean looping = attachedSource != null && attachedSource.toLoop;
+        final int frameSize = format.getChannels() * format.getSampleSizeInBits() / 8;
+        final double step = format.getSampleRate() / sampleRate;
+
+        if (frameSize == 0 || (!streaming && buffer.length < frameSize))
+            return;
+
+        for (int i = 0; i < frames; i++)
+        {
+            byte[] data = streaming ? queue.get(processed) : buffer;
+            int frame = (int) position;
+
+            // Move on to the next buffer, or the top of this one if looping.
+            while (frame >= data.length / frameSize)
+            {
+                position -= data.length / frameSize;
+                frame = (int) position;
+
+                if (streaming)
+                {
+                    processed++;
+
+                    if (queue.size() == processed)
+                        return;
+
+                    data = queue.get(processed);
+                }
+                else if (!looping)
+                {
+                    state = State.STOPPED;
+                    return;
+                }
+            }
+
+            mix[2 * i] += gain * sample(data, frame, 0);
+            mix[2 * i + 1] += gain * sample(data, frame, 1);
+            position += step;
+        }
+    }
+
+    /**
+     * Reads a sample from the data as a float between -1 and 1.  Mono data
+     * gives the same sample to both sides.
+     */
+    private float sample(byte[] data, int frame, int side)
+    {
+        final int channels = format.getChannels();
+        final int bytes = format.getSampleSizeInBits() / 8;
+        final int i = (frame * channels + Math.min(side, channels - 1)) * bytes;
+
+        if (bytes == 1)
+        {
+            if (format.getEncoding() == AudioFormat.Encoding.PCM_UNSIGNED)
+                return ((data[i] & 0xFF) - 128) / 128f;
+
+            return data[i] / 128f;
+        }
+
+        final int value = format.isBigEndian()
+                ? (data[i] << 8) | (data[i + 1] & 0xFF)
+                : (data[i + 1] << 8) | (data[i] & 0xFF);
+
+        return value / 32768f;
+    }
+
+}
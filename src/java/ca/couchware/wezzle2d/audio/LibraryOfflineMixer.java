@@ -0,0 +1,361 @@
+/*
+ *  Wezzle
+ *  Copyright (c) 2007-2010 Couchware Inc.  All rights reserved.
+ */
+package ca.couchware.wezzle2d.audio;
+
+import ca.couchware.wezzle2d.util.CouchLogger;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import paulscode.sound.Channel;
+import paulscode.sound.FilenameURL;
+import paulscode.sound.ICodec;
+import paulscode.sound.Library;
+import paulscode.sound.SoundBuffer;
+import paulscode.sound.SoundSystemConfig;
+import paulscode.sound.SoundSystemException;
+import paulscode.sound.Source;
+
+/**
+ * A sound library that needs no audio device.  Everything that would have
+ * been heard is mixed in software, in real time, to 16-bit stereo PCM and
+ * written to a WAV file.  The time spent mixing is logged on clean-up, so
+ * the library can also be used to measure the cost of the audio work.
+ *
+ * The output file must be set with {@link #setOutputFile(File)} before the
+ * sound system is created.
+ *
+ * @author cdmckay
+ */
+public class LibraryOfflineMixer extends Library
+{
+    /** The sample rate of the mix. */
+    final private static int SAMPLE_RATE = 44100;
+
+    /** The number of milliseconds between mixes. */
+    final private static int MIX_PERIOD = 20;
+
+    /** The size of the WAV header, in bytes. */
+    final private static int HEADER_SIZE = 44;
+
+    /** The file the mix is written to. */
+    private static File outputFile = new File("wezzle-audio.wav");
+
+    /** The channels being mixed. */
+    final private List<ChannelOfflineMixer> channelList =
+            new ArrayList<ChannelOfflineMixer>();
+
+    private RandomAccessFile out;
+    private Thread mixerThread;
+
+    /** The number of frames written so far. */
+    private long framesWritten = 0;
+
+    /** The time spent mixing, in nanoseconds. */
+    private long mixTime = 0;
+
+    public LibraryOfflineMixer() throws SoundSystemException
+    {
+        super();
+    }
+
+    /**
+     * Sets the file the mix is written to.
+     *
+     * @param file
+     */
+    public static void setOutputFile(File file)
+    {
+        if (file == null)
+        {
+            throw new IllegalArgumentException("File cannot be null");
+        }
+
+        outputFile = file;
+    }
+
+    public static boolean libraryCompatible()
+    {
+        return true;
+    }
+
+    public static String getTitle()
+    {
+        return "Offline Mixer";
+    }
+
+    public static String getDescription()
+    {
+        return "Mixes audio in software and writes it to a WAV file";
+    }
+
+    @Override
+    public String getClassName()
+    {
+        return "LibraryOfflineMixer";
+    }
+
+    @Override
+    public void init() throws SoundSystemException
+    {
+        super.init();
+
+        try
+        {
+            out = new RandomAccessFile(outputFile, "rw");
+            out.setLength(0);
+            writeHeader();
+        }
+        catch (IOException ex)
+        {
+            throw new SoundSystemException("Could not open " + outputFile
+                    + ": " + ex.getMessage());
+        }
+
+        mixerThread = new Thread("OfflineMixerThread")
+        {
+            @Override
+            public void run()
+            {
+                loop();
+            }
+        };
+
+        mixerThread.setDaemon(true);
+        mixerThread.start();
+    }
+
+    @Override
+    protected Channel createChannel(int type)
+    {
+        ChannelOfflineMixer channel = new ChannelOfflineMixer(type);
+
+        synchronized (channelList)
+        {
+            channelList.add(channel);
+        }
+
+        return channel;
+    }
+
+    @Override
+    public boolean loadSound(FilenameURL filenameURL)
+    {
+        final String filename = filenameURL.getFilename();
+
+        if (bufferMap.get(filename) != null)
+            return true;
+
+        ICodec codec = SoundSystemConfig.getCodec(filename);
+
+        if (codec == null)
+        {
+            errorMessage("No codec found for file '" + filename + "'");
+            return false;
+        }
+
+        codec.initialize(filenameURL.getURL());
+        SoundBuffer buffer = codec.readAll();
+        codec.cleanup();
+
+        if (buffer == null || buffer.audioData == null)
+        {
+            errorMessage("Sound buffer null in method 'loadSound'");
+            return false;
+        }
+
+        bufferMap.put(filename, buffer);
+        return true;
+    }
+
+    @Override
+    public void newSource(boolean priority, boolean toStream, boolean toLoop,
+            String sourcename, FilenameURL filenameURL,
+            float x, float y, float z, int attModel, float distOrRoll)
+    {
+        SoundBuffer buffer = null;
+
+        if (!toStream)
+        {
+            if (!loadSound(filenameURL))
+            {
+                errorMessage("Source '" + sourcename + "' was not created "
+                        + "because an error occurred while loading "
+                        + filenameURL.getFilename());
+                return;
+            }
+
+            buffer = bufferMap.get(filenameURL.getFilename());
+        }
+
+        sourceMap.put(sourcename, new SourceOfflineMixer(priority, toStream,
+                toLoop, sourcename, filenameURL, buffer, x, y, z,
+                attModel, distOrRoll, false));
+    }
+
+    @Override
+    public void cleanup()
+    {
+        if (mixerThread != null)
+        {
+            mixerThread.interrupt();
+
+            try
+            {
+                mixerThread.join();
+            }
+            catch (InterruptedException ex)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        super.cleanup();
+
+        synchronized (channelList)
+        {
+            channelList.clear();
+        }
+
+        if (out != null)
+        {
+            try
+            {
+                writeHeader();
+                out.close();
+            }
+            catch (IOException ex)
+            {
+                CouchLogger.get().recordException(getClass(), ex);
+            }
+
+            CouchLogger.get().recordMessage(getClass(), String.format(
+                    "Mixed %.1f s of audio in %d ms to %s.",
+                    framesWritten / (double) SAMPLE_RATE,
+                    mixTime / 1000000, outputFile));
+        }
+    }
+
+    private void loop()
+    {
+        final long startTime = System.currentTimeMillis();
+        float[] mix = new float[0];
+        byte[] pcm = new byte[0];
+
+        while (!Thread.currentThread().isInterrupted())
+        {
+            try
+            {
+                Thread.sleep(MIX_PERIOD);
+            }
+            catch (InterruptedException ex)
+            {
+                break;
+            }
+
+            // Mix as much as has played in real time since the last mix.
+            final long elapsed = System.currentTimeMillis() - startTime;
+            final int frames = (int) (elapsed * SAMPLE_RATE / 1000 - framesWritten);
+
+            if (frames <= 0)
+                continue;
+
+            if (mix.length < 2 * frames)
+            {
+                mix = new float[2 * frames];
+                pcm = new byte[4 * frames];
+            }
+
+            final long mixStart = System.nanoTime();
+            mix(mix, frames);
+            toPCM(mix, pcm, frames);
+            mixTime += System.nanoTime() - mixStart;
+
+            try
+            {
+                out.write(pcm, 0, 4 * frames);
+                framesWritten += frames;
+            }
+            catch (IOException ex)
+            {
+                CouchLogger.get().recordException(getClass(), ex);
+                break;
+            }
+        } // end while
+    }
+
+    private void mix(float[] mix, int frames)
+    {
+        Arrays.fill(mix, 0, 2 * frames, 0f);
+
+        synchronized (channelList)
+        {
+            for (ChannelOfflineMixer channel : channelList)
+            {
+                final Source source = channel.attachedSource;
+
+                if (source instanceof SourceOfflineMixer)
+                {
+                    channel.mix(mix, frames, SAMPLE_RATE,
+                            ((SourceOfflineMixer) source).getEffectiveGain());
+                }
+            }
+        }
+    }
+
+    /**
+     * Converts the mix to 16-bit little-endian PCM, clipping as needed.
+     */
+    private static void toPCM(float[] mix, byte[] pcm, int frames)
+    {
+        for (int i = 0; i < 2 * frames; i++)
+        {
+            final float f = Math.max(-1f, Math.min(1f, mix[i]));
+            final int value = (int) (f * 32767);
+
+            pcm[2 * i] = (byte) value;
+            pcm[2 * i + 1] = (byte) (value >> 8);
+        }
+    }
+
+    /**
+     * Writes the WAV header for the frames written so far.
+     */
+    private void writeHeader() throws IOException
+    {
+        final int dataSize = (int) (framesWritten * 4);
+        final long position = out.getFilePointer();
+
+        out.seek(0);
+        out.writeBytes("RIFF");
+        writeInt(HEADER_SIZE - 8 + dataSize);
+        out.writeBytes("WAVE");
+        out.writeBytes("fmt ");
+        writeInt(16);
+        writeShort(1);                  // PCM
+        writeShort(2);                  // Stereo
+        writeInt(SAMPLE_RATE);
+        writeInt(SAMPLE_RATE * 4);      // Bytes per second
+        writeShort(4);                  // Bytes per frame
+        writeShort(16);                 // Bits per sample
+        out.writeBytes("data");
+        writeInt(dataSize);
+
+        out.seek(Math.max(position, HEADER_SIZE));
+    }
+
+    private void writeInt(int value) throws IOException
+    {
+        out.writeInt(Integer.reverseBytes(value));
+    }
+
+    private void writeShort(int value) throws IOException
+    {
+        out.writeShort(Short.reverseBytes((short) value));
+    }
+
+}
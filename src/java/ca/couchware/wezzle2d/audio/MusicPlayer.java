@@ -4,74 +4,89 @@
  */
 package ca.couchware.wezzle2d.audio;
 
-import ca.couchware.wezzle2d.util.CouchLogger;
-import ca.couchware.wezzle2d.util.AtomicDouble;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 import paulscode.sound.SoundSystem;
 import paulscode.sound.SoundSystemConfig;
 
 /**
  * An extension to the JavaZoom BasicPlayer class that incorporates more
  * advanced features such as fading in and out and looping.
- * 
+ *
+ * All the work is done on the music scheduler thread.  The public methods
+ * queue a command and return right away, and fades, delayed stops and
+ * end-of-track waits are advanced by the scheduler's periodic updates.
+ *
  * @author cdmckay
  */
 public class MusicPlayer
 {
     private static final double MIN_GAIN = 0.0;
-    private static final double MAX_GAIN = 1.0;    
+    private static final double MAX_GAIN = 1.0;
     private static final double FADE_DELTA = 0.02;
     private static final int FADE_PERIOD = 50;
-    private static final int STOP_PERIOD = 250;
-    private static final int WAIT_PERIOD = 250;
+
+    /** The change in gain per millisecond while fading. */
+    private static final double FADE_RATE = FADE_DELTA / FADE_PERIOD;
+
     private final SoundSystem soundSystem;
+    private final MusicScheduler scheduler;
     private final String key = UUID.randomUUID().toString();
-    private Thread fadeThread;
-    private Thread stopThread;
-    private Thread waitThread;
-    private AtomicBoolean cancelFade = new AtomicBoolean(false);
-    private AtomicBoolean cancelStop = new AtomicBoolean(false);
-    private AtomicBoolean cancelWait = new AtomicBoolean(false);
-    final private Object playerLock = new Object();
-    private AtomicDouble normalizedGain = new AtomicDouble();
+    private AtomicBoolean waiting = new AtomicBoolean(false);
     private AtomicBoolean stopped = new AtomicBoolean(true);
     private AtomicBoolean paused = new AtomicBoolean(true);
-    private AtomicBoolean looping = new AtomicBoolean(false);    
-    
+    private AtomicBoolean looping = new AtomicBoolean(false);
+
     /* The fade direction is 1 for up, -1 for down */
     final private static int DIR_UP = 1;
     final private static int DIR_DOWN = -1;
-    private AtomicInteger fadeDirection = new AtomicInteger(0);
+
+    // The fields below are only touched by the scheduler thread.
+
+    private double normalizedGain = 0.0;
+    private boolean fading = false;
+    private double fadeTarget;
+    private int fadeDirection;
+    private boolean stopPending = false;
+    private double stopTarget;
+    private int stopDirection;
 
     /**
      * The constructor.
      */
-    private MusicPlayer(SoundSystem soundSystem, String path)
+    private MusicPlayer(SoundSystem soundSystem, MusicScheduler scheduler, String path)
     {
         if (soundSystem == null)
         {
             throw new IllegalArgumentException("Sound system cannot be null");
         }
 
+        if (scheduler == null)
+        {
+            throw new IllegalArgumentException("Scheduler cannot be null");
+        }
+
         if (path == null)
         {
             throw new IllegalArgumentException("Path cannot be null");
         }
 
         this.soundSystem = soundSystem;
+        this.scheduler = scheduler;
         open(path);
+
+        scheduler.register(this);
     }
 
     /**
      * Create a new music player instance.
-     * 
+     *
      * @return
      */
-    public static MusicPlayer newInstance(SoundSystem soundSystem, String path)
+    public static MusicPlayer newInstance(SoundSystem soundSystem,
+            MusicScheduler scheduler, String path)
     {
-        return new MusicPlayer(soundSystem, path);
+        return new MusicPlayer(soundSystem, scheduler, path);
     }
 
     private void open(String path)
@@ -81,113 +96,48 @@ public class MusicPlayer
 
     public void play()
     {
-        synchronized (playerLock)
-        {
-            try
-            {
-                soundSystem.play(key);
-            }
-            catch (Exception ex)
-            {
-                CouchLogger.get().recordException(getClass(), ex);
-            }
-        }
-
+        // Set the state now so that the track doesn't look finished before
+        // the scheduler gets to it.
         paused.set(false);
         stopped.set(false);
+        waiting.set(true);
 
-        if (waitThread != null && waitThread.isAlive())
-        {
-            try
-            {
-                cancelWait.set(true);
-                waitThread.join();
-            } catch (InterruptedException ex)
-            {
-                CouchLogger.get().recordException(getClass(), ex);
-            }
-        }
-
-        waitThread = new Thread("MusicPlayerWaitThread")
+        scheduler.post(new Runnable()
         {
-            @Override
             public void run()
             {
-                cancelWait.set(false);
-
-                while (true)
-                {
-                    try
-                    {
-                        if (cancelWait.get() || soundSystem.playing(key) || paused.get())
-                            break;
-                    
-                        Thread.sleep(WAIT_PERIOD);
-                    }
-                    catch (InterruptedException ex)
-                    {
-                        break;
-                    }
-                    catch (Exception ex)
-                    {
-                        CouchLogger.get().recordException(getClass(), ex);
-                    }
-                } // end while
-            } // end thread
-        };
-        
-        waitThread.start();
+                soundSystem.play(key);
+            }
+        });
     }
 
     public void stop()
     {
-        try
-        {
-            if (fadeThread != null && fadeThread.isAlive())
-            {
-                cancelFade.set(true);
-                fadeThread.join();
-            }
+        stopped.set(true);
+        waiting.set(false);
 
-            if (stopThread != null && stopThread.isAlive())
-            {
-                cancelStop.set(true);
-                stopThread.join();
-            }
-
-            if (waitThread != null && waitThread.isAlive())
-            {
-                cancelWait.set(true);
-                waitThread.join();
-            }
-
-            synchronized (playerLock)
+        scheduler.post(new Runnable()
+        {
+            public void run()
             {
+                fading = false;
+                stopPending = false;
                 soundSystem.stop(key);
             }
-
-            stopped.set(true);
-        }
-        catch (Exception ex)
-        {
-            CouchLogger.get().recordException(getClass(), ex);
-        }
+        });
     }
 
     public void pause()
     {
-        synchronized (playerLock)
+        paused.set(true);
+
+        scheduler.post(new Runnable()
         {
-            try
+            public void run()
             {
                 soundSystem.pause(key);
-                paused.set(true);
             }
-            catch (Exception ex)
-            {
-                CouchLogger.get().recordException(getClass(), ex);
-            }
-        }
+        });
     }
 
     public void resume()
@@ -197,97 +147,62 @@ public class MusicPlayer
 
     public void rewind()
     {
-       soundSystem.rewind(key);
+        scheduler.post(new Runnable()
+        {
+            public void run()
+            {
+                soundSystem.rewind(key);
+            }
+        });
     }
 
-    public void setNormalizedGain(double nGain)
+    public void setNormalizedGain(final double nGain)
     {
-        synchronized (playerLock)
+        scheduler.post(new Runnable()
         {
-            try
-            {
-                nGain = Math.max(nGain, MIN_GAIN);
-                nGain = Math.min(nGain, MAX_GAIN);
-                soundSystem.setVolume(key, (float) nGain);
-            } catch (Exception ex)
+            public void run()
             {
-                CouchLogger.get().recordException(getClass(), ex);
+                applyNormalizedGain(nGain);
             }
-        }
+        });
+    }
 
-        this.normalizedGain.set(nGain);
+    /**
+     * Sets the gain on the sound system.  Must be called on the scheduler
+     * thread.
+     *
+     * @param nGain
+     */
+    private void applyNormalizedGain(double nGain)
+    {
+        nGain = Math.max(nGain, MIN_GAIN);
+        nGain = Math.min(nGain, MAX_GAIN);
+        soundSystem.setVolume(key, (float) nGain);
+
+        this.normalizedGain = nGain;
     }
 
     /**
      * Slowly fade the volume to a specified gain.
-     * 
-     * @param targetGain The target gain to fade to, from 0.0 to 1.0.    
+     *
+     * @param targetGain The target gain to fade to, from 0.0 to 1.0.
      */
     public void fadeToGain(final double nGain)
     {
-        //if (isPaused()) return;
-
-        if (fadeThread != null && fadeThread.isAlive())
-        {
-            try
-            {
-                cancelFade.set(true);
-                fadeThread.join();
-            } catch (InterruptedException ex)
-            {
-                CouchLogger.get().recordException(getClass(), ex);
-            }
-        }
-
-        fadeThread = new Thread("MusicPlayerFadeThread")
+        scheduler.post(new Runnable()
         {
-            final private double targetNormalizedGain = nGain;
-
-            @Override
             public void run()
             {
-                cancelFade.set(false);
-                
-                if (nGain > normalizedGain.get())
-                    fadeDirection.set(DIR_UP);
-                else
-                    fadeDirection.set(DIR_DOWN);
-
-                while (true)
-                {
-                    final int dir = fadeDirection.get();
-                    final double n = normalizedGain.get();
-                    final double delta = FADE_DELTA * dir;
-
-                    final boolean atUpper = dir == DIR_UP && n >= targetNormalizedGain;
-                    final boolean atLower = dir == DIR_DOWN && n <= targetNormalizedGain;
-
-                    if (cancelFade.get() || atUpper || atLower)
-                    {
-                        // End execution.
-                        break;
-                    }                    
-
-                    final double g = n + delta;
-                    setNormalizedGain(g);
-
-                    try
-                    {
-                        Thread.sleep(FADE_PERIOD);
-                    } catch (InterruptedException ex)
-                    {
-                        break;
-                    }
-                } // end while
-            } // end thread
-        };
-
-        fadeThread.start();
+                fading = true;
+                fadeTarget = nGain;
+                fadeDirection = nGain > normalizedGain ? DIR_UP : DIR_DOWN;
+            }
+        });
     }
 
     /**
      * Is the player looping?
-     * 
+     *
      * @return
      */
     public boolean isLooping()
@@ -297,26 +212,30 @@ public class MusicPlayer
 
     /**
      * Set the loop status of the player.  True for looping, false for not.
-     * 
+     *
      * @param loop
      */
-    public void setLooping(boolean loop)
-    {        
-        soundSystem.setLooping(key, loop);
+    public void setLooping(final boolean loop)
+    {
         looping.set(loop);
-    }    
+
+        scheduler.post(new Runnable()
+        {
+            public void run()
+            {
+                soundSystem.setLooping(key, loop);
+            }
+        });
+    }
 
     private boolean isWaiting()
     {
-        return waitThread != null && waitThread.isAlive();
+        return waiting.get();
     }
 
     private boolean isPlaying()
     {
-        synchronized (playerLock)
-        {
-            return soundSystem.playing(key);
-        }
+        return soundSystem.playing(key);
     }
 
     private boolean isPaused()
@@ -324,7 +243,10 @@ public class MusicPlayer
         return paused.get();
     }
 
-    private boolean isStopped()
+    /**
+     * Has the player been stopped?
+     */
+    public boolean isStopped()
     {
         return stopped.get();
     }
@@ -333,7 +255,7 @@ public class MusicPlayer
      * Is the player at the end of the track?
      */
     public boolean isFinished()
-    {        
+    {
         return !isWaiting() && !isPaused() && !isStopped() && !isPlaying();
     }
 
@@ -345,65 +267,76 @@ public class MusicPlayer
      *
      * @see stop
      * @see isFinished
-     * @param nGain     
+     * @param nGain
      */
     public void stopAtGain(final double nGain)
     {
-        stopThread = new Thread("MusicPlayerStopThread")
+        scheduler.post(new Runnable()
         {
-            final private double targetNormalizedGain = nGain;
-
-            @Override
             public void run()
             {
-                cancelStop.set(false);
-
-                if (nGain > normalizedGain.get())
-                    fadeDirection.set(DIR_UP);
-                else
-                    fadeDirection.set(DIR_DOWN);
-
-                while (true)
-                {
-                    final int dir = fadeDirection.get();
-                    final double n = normalizedGain.get();
-                    final boolean atUpper = dir == DIR_UP && n >= targetNormalizedGain;
-                    final boolean atLower = dir == DIR_DOWN && n <= targetNormalizedGain;
-
-                    if (atUpper || atLower || cancelStop.get() || isFinished())
-                    {
-                        synchronized (playerLock)
-                        {
-                            try
-                            {
-                                soundSystem.stop(key);
-                                stopped.set(true);
-                                break;
-                            } catch (Exception e)
-                            {
-                                CouchLogger.get().recordException(getClass(), e, true /* Fatal */);
-                            }
-                        } // end sync
-                    }
-
-                    try
-                    {
-                        Thread.sleep(STOP_PERIOD);
-                    } catch (InterruptedException ex)
-                    {
-                        break;
-                    }
-                } // end while
-            } // end thread
-        };
-
-        stopThread.start();
+                stopPending = true;
+                stopTarget = nGain;
+                stopDirection = nGain > normalizedGain ? DIR_UP : DIR_DOWN;
+            }
+        });
+    }
+
+    /**
+     * Advances the fade, the delayed stop and the end-of-track wait.  Called
+     * periodically by the scheduler thread.
+     *
+     * @param elapsed The number of milliseconds since the last update.
+     */
+    void update(int elapsed)
+    {
+        // The wait is over once the track has actually started.
+        if (waiting.get() && (paused.get() || soundSystem.playing(key)))
+        {
+            waiting.set(false);
+        }
+
+        if (fading)
+        {
+            double g = normalizedGain + FADE_RATE * elapsed * fadeDirection;
+
+            if ((fadeDirection == DIR_UP && g >= fadeTarget)
+                    || (fadeDirection == DIR_DOWN && g <= fadeTarget))
+            {
+                g = fadeTarget;
+                fading = false;
+            }
+
+            applyNormalizedGain(g);
+        }
+
+        if (stopPending)
+        {
+            final boolean atUpper = stopDirection == DIR_UP && normalizedGain >= stopTarget;
+            final boolean atLower = stopDirection == DIR_DOWN && normalizedGain <= stopTarget;
+
+            if (atUpper || atLower || isFinished())
+            {
+                soundSystem.stop(key);
+                stopped.set(true);
+                stopPending = false;
+            }
+        }
     }
 
     public void destroy()
     {
         stop();
-        soundSystem.removeSource(key);
+
+        scheduler.post(new Runnable()
+        {
+            public void run()
+            {
+                soundSystem.removeSource(key);
+            }
+        });
+
+        scheduler.unregister(this);
     }
 
 }
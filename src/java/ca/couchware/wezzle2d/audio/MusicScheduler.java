@@ -0,0 +1,163 @@
+/*
+ *  Wezzle
+ *  Copyright (c) 2007-2010 Couchware Inc.  All rights reserved.
+ */
+package ca.couchware.wezzle2d.audio;
+
+import ca.couchware.wezzle2d.util.CouchLogger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A single long-lived thread that drives every music player.  Commands sent
+ * to players are queued here and run in the order they were sent, and the
+ * players are updated at a fixed period so fades, delayed stops and
+ * end-of-track checks all happen on the same thread.
+ *
+ * @author cdmckay
+ */
+public class MusicScheduler
+{
+    /** The number of milliseconds between player updates. */
+    final static int UPDATE_PERIOD = 20;
+
+    /** The commands waiting to be run. */
+    final private BlockingQueue<Runnable> commandQueue =
+            new LinkedBlockingQueue<Runnable>();
+
+    /** The players being updated.  Only touched by the scheduler thread. */
+    final private List<MusicPlayer> playerList = new ArrayList<MusicPlayer>();
+
+    /** The scheduler thread. */
+    final private Thread thread;
+
+    private MusicScheduler()
+    {
+        this.thread = new Thread("MusicSchedulerThread")
+        {
+            @Override
+            public void run()
+            {
+                loop();
+            }
+        };
+
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Create a new scheduler and start its thread.
+     *
+     * @return
+     */
+    public static MusicScheduler newInstance()
+    {
+        return new MusicScheduler();
+    }
+
+    /**
+     * Queues a command to be run on the scheduler thread.
+     *
+     * @param command
+     */
+    void post(Runnable command)
+    {
+        commandQueue.add(command);
+    }
+
+    /**
+     * Starts updating a player.
+     *
+     * @param player
+     */
+    void register(final MusicPlayer player)
+    {
+        post(new Runnable()
+        {
+            public void run()
+            {
+                playerList.add(player);
+            }
+        });
+    }
+
+    /**
+     * Stops updating a player.
+     *
+     * @param player
+     */
+    void unregister(final MusicPlayer player)
+    {
+        post(new Runnable()
+        {
+            public void run()
+            {
+                playerList.remove(player);
+            }
+        });
+    }
+
+    private void loop()
+    {
+        long lastUpdate = System.currentTimeMillis();
+
+        while (true)
+        {
+            // Run any commands that come in before the next update.
+            try
+            {
+                final long wait = Math.max(0,
+                        lastUpdate + UPDATE_PERIOD - System.currentTimeMillis());
+                Runnable command = commandQueue.poll(wait, TimeUnit.MILLISECONDS);
+
+                while (command != null)
+                {
+                    runCommand(command);
+                    command = commandQueue.poll();
+                }
+            }
+            catch (InterruptedException ex)
+            {
+                break;
+            }
+
+            // Update the players if the period is up.
+            final long now = System.currentTimeMillis();
+            final int elapsed = (int) (now - lastUpdate);
+
+            if (elapsed >= UPDATE_PERIOD)
+            {
+                lastUpdate = now;
+
+                for (MusicPlayer player : playerList)
+                {
+                    try
+                    {
+                        player.update(elapsed);
+                    }
+                    catch (Exception ex)
+                    {
+                        CouchLogger.get().recordException(getClass(), ex);
+                    }
+                }
+            }
+        } // end while
+    }
+
+    private void runCommand(Runnable command)
+    {
+        try
+        {
+            command.run();
+        }
+        catch (Exception ex)
+        {
+            CouchLogger.get().recordException(getClass(), ex);
+        }
+    }
+
+}
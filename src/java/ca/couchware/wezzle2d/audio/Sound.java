@@ -11,26 +11,32 @@ package ca.couchware.wezzle2d.audio;
  */
 public enum Sound
 {
-    ACHIEVEMENT(3),
-    BOMB(3),
-    LINE_1(3),
-    LINE_2(2),
-    LINE_3(1),
-    LINE_4(1),
-    LINE_5(1),
-    LINE_6(1),
-    LINE_7(1),
-    BLEEP(1),
-    CLICK(1),
-    CLICK_LIGHT(1),
-    LEVEL_UP(1),
-    STAR(1),
-    ROCKET(3);
+    ACHIEVEMENT(3, 3),
+    BOMB(3, 2),
+    LINE_1(3, 1),
+    LINE_2(2, 1),
+    LINE_3(1, 1),
+    LINE_4(1, 1),
+    LINE_5(1, 1),
+    LINE_6(1, 1),
+    LINE_7(1, 1),
+    BLEEP(1, 1),
+    CLICK(1, 2),
+    CLICK_LIGHT(1, 2),
+    LEVEL_UP(1, 3),
+    STAR(1, 1),
+    ROCKET(3, 2);
 
     /** The number of buffers this clip needs. */
     final private int numberOfBuffers;
 
-    Sound(int numberOfBuffers)
+    /** 
+     * The priority of this clip.  When all the voices are in use, a clip may
+     * only take a voice from a clip of the same or lower priority.
+     */
+    final private int priority;
+
+    Sound(int numberOfBuffers, int priority)
     {
         if (numberOfBuffers < 1)
         {
@@ -38,10 +44,16 @@ public enum Sound
         }
 
         this.numberOfBuffers = numberOfBuffers;
+        this.priority = priority;
     }
 
     public int getNumberOfBuffers()
     {
         return numberOfBuffers;
     }
+
+    public int getPriority()
+    {
+        return priority;
+    }
 }
@@ -36,6 +36,13 @@ public class SoundPlayer
         open(path);
     }
 
+    /**
+     * Creates a source for the sample at the given path.  If the sample has
+     * already been loaded into the sound system, the source shares its
+     * buffer rather than decoding the file again.
+     * 
+     * @param path
+     */
     private void open(String path)
     {
         soundSystem.newSource(false, key, path, false, 0, 0, 0, SoundSystemConfig.ATTENUATION_NONE, 1);
@@ -46,6 +53,16 @@ public class SoundPlayer
         soundSystem.play(key);
     }
 
+    /**
+     * Is the sound playing?
+     * 
+     * @return
+     */
+    public boolean isPlaying()
+    {
+        return soundSystem.playing(key);
+    }
+
     /**
      * A method to load a WAV file. This method assumes .wav format.
      * @param stream - A markable inputstream.
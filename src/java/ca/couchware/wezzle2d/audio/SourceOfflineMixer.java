@@ -0,0 +1,140 @@
+/*
+ *  Wezzle
+ *  Copyright (c) 2007-2010 Couchware Inc.  All rights reserved.
+ */
+package ca.couchware.wezzle2d.audio;
+
+import java.util.LinkedList;
+import paulscode.sound.Channel;
+import paulscode.sound.FilenameURL;
+import paulscode.sound.SoundBuffer;
+import paulscode.sound.SoundSystemConfig;
+import paulscode.sound.Source;
+
+/**
+ * A source of the offline mixer.  Hands its buffer, or its decoded stream,
+ * to an offline mixer channel when played.
+ *
+ * @author cdmckay
+ */
+public class SourceOfflineMixer extends Source
+{
+    public SourceOfflineMixer(boolean priority, boolean toStream,
+            boolean toLoop, String sourcename, FilenameURL filenameURL,
+            SoundBuffer soundBuffer, float x, float y, float z,
+            int attModel, float distOrRoll, boolean temporary)
+    {
+        super(priority, toStream, toLoop, sourcename, filenameURL, soundBuffer,
+                x, y, z, attModel, distOrRoll, temporary);
+
+        libraryType = LibraryOfflineMixer.class;
+
+        if (toStream && filenameURL != null)
+        {
+            codec = SoundSystemConfig.getCodec(filenameURL.getFilename());
+        }
+    }
+
+    @Override
+    public void play(Channel c)
+    {
+        if (!active())
+        {
+            if (toLoop)
+                toPlay = true;
+
+            return;
+        }
+
+        if (c == null)
+        {
+            errorMessage("Unable to play source, because channel was null");
+            return;
+        }
+
+        final boolean newChannel = channel != c;
+        final boolean wasPaused = paused();
+
+        super.play(c);
+
+        final ChannelOfflineMixer mixerChannel = (ChannelOfflineMixer) channel;
+
+        if (newChannel && !toStream)
+        {
+            if (soundBuffer == null)
+            {
+                errorMessage("No sound buffer to play");
+                return;
+            }
+
+            mixerChannel.attachBuffer(soundBuffer);
+        }
+
+        if (!playing())
+        {
+            if (toStream && !wasPaused)
+            {
+                if (codec == null)
+                {
+                    errorMessage("Decoder null in method 'play'");
+                    return;
+                }
+
+                if (codec.getAudioFormat() == null)
+                {
+                    codec.initialize(filenameURL.getURL());
+                }
+
+                if (codec.getAudioFormat() == null)
+                {
+                    errorMessage("Audio Format null in method 'play'");
+                    return;
+                }
+
+                mixerChannel.setAudioFormat(codec.getAudioFormat());
+                preLoad = true;
+            }
+
+            channel.play();
+        }
+    }
+
+    @Override
+    public boolean preLoad()
+    {
+        if (codec == null)
+            return false;
+
+        codec.initialize(filenameURL.getURL());
+        LinkedList<byte[]> bufferList = new LinkedList<byte[]>();
+
+        for (int i = 0; i < SoundSystemConfig.getNumberStreamingBuffers(); i++)
+        {
+            SoundBuffer buffer = codec.read();
+
+            if (buffer == null)
+                break;
+
+            if (buffer.audioData != null)
+            {
+                bufferList.add(buffer.audioData);
+            }
+        }
+
+        channel.preLoadBuffers(bufferList);
+        preLoad = false;
+
+        return true;
+    }
+
+    /**
+     * Returns the gain the source is currently heard at.
+     *
+     * @return
+     */
+    float getEffectiveGain()
+    {
+        return gain * sourceVolume * SoundSystemConfig.getMasterGain();
+    }
+
+}
@@ -0,0 +1,257 @@
+/*
+ *  Wezzle
+ *  Copyright (c) 2007-2010 Couchware Inc.  All rights reserved.
+ */
+package ca.couchware.wezzle2d.audio;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hands out the voices used to play sound effects.  At most a fixed number
+ * of voices play at once.  When that cap is reached, a new sound takes the
+ * voice of a playing sound of the same or lower priority, choosing the
+ * lowest priority, then the quietest, then the oldest.  A sound that is
+ * played again while its last play is still within the coalescing window
+ * is merged into that play by boosting its gain instead.
+ *
+ * @author cdmckay
+ */
+public class VoicePool
+{
+    /** The fraction of a merged play's gain that is added to the voice. */
+    private static final double COALESCE_BOOST = 0.25;
+
+    /**
+     * How long a voice is assumed to be playing after it starts, since the
+     * sound system may not report it as playing right away.
+     */
+    private static final int START_GRACE_PERIOD = 100;
+
+    /** The maximum number of voices that may play at once. */
+    private final int maxVoices;
+
+    /** The window, in ms, in which repeated plays of a sound are merged. */
+    private final int coalesceWindow;
+
+    /** The voices for each sound. */
+    private final Map<Sound, List<Voice>> voiceMap =
+            new EnumMap<Sound, List<Voice>>(Sound.class);
+
+    /** The voices that are playing, oldest first. */
+    private final List<Voice> activeList = new ArrayList<Voice>();
+
+    /**
+     * A sound player and what it was last asked to play.
+     */
+    private static class Voice
+    {
+        final Sound sound;
+        final SoundPlayer player;
+        long startTime;
+        double normalizedGain;
+
+        Voice(Sound sound, SoundPlayer player)
+        {
+            this.sound = sound;
+            this.player = player;
+        }
+    }
+
+    /**
+     * Creates a voice pool.
+     *
+     * @param maxVoices The maximum number of voices that may play at once.
+     * @param coalesceWindow The window, in ms, in which repeated plays of a
+     * sound are merged.
+     */
+    public VoicePool(int maxVoices, int coalesceWindow)
+    {
+        if (maxVoices < 1)
+        {
+            throw new IllegalArgumentException("At least 1 voice is required");
+        }
+
+        this.maxVoices = maxVoices;
+        this.coalesceWindow = coalesceWindow;
+    }
+
+    /**
+     * Adds a voice for the given sound.
+     *
+     * @param sound
+     * @param player
+     */
+    public void add(Sound sound, SoundPlayer player)
+    {
+        List<Voice> voiceList = voiceMap.get(sound);
+
+        if (voiceList == null)
+        {
+            voiceList = new ArrayList<Voice>(sound.getNumberOfBuffers());
+            voiceMap.put(sound, voiceList);
+        }
+
+        voiceList.add(new Voice(sound, player));
+    }
+
+    /**
+     * Plays a sound at the given gain, if a voice can be found for it.
+     *
+     * @param sound
+     * @param nGain
+     */
+    public void play(Sound sound, double nGain)
+    {
+        final List<Voice> voiceList = voiceMap.get(sound);
+
+        if (voiceList == null)
+            return;
+
+        final long now = System.currentTimeMillis();
+        removeFinished(now);
+
+        // Merge with a play of the same sound that just started.
+        for (Voice voice : activeList)
+        {
+            if (voice.sound == sound && now - voice.startTime <= coalesceWindow)
+            {
+                voice.normalizedGain = Math.min(1.0,
+                        voice.normalizedGain + nGain * COALESCE_BOOST);
+                voice.player.setNormalizedGain(voice.normalizedGain);
+                return;
+            }
+        }
+
+        // Look for one of the sound's own voices that is free.  If they're
+        // all busy, restart the oldest one.
+        Voice voice = null;
+
+        for (Voice v : voiceList)
+        {
+            if (!activeList.contains(v))
+            {
+                voice = v;
+                break;
+            }
+        }
+
+        if (voice == null)
+        {
+            voice = findOldest(sound);
+            stop(voice);
+        }
+        else if (activeList.size() >= maxVoices)
+        {
+            // Take a voice away from something less important.
+            Voice victim = findVictim(sound.getPriority());
+
+            if (victim == null)
+                return;
+
+            stop(victim);
+        }
+
+        voice.startTime = now;
+        voice.normalizedGain = nGain;
+        voice.player.setNormalizedGain(nGain);
+        voice.player.play();
+        activeList.add(voice);
+    }
+
+    /**
+     * Stops every voice.
+     */
+    public void stopAll()
+    {
+        for (List<Voice> voiceList : voiceMap.values())
+        {
+            for (Voice voice : voiceList)
+            {
+                voice.player.setNormalizedGain(0.0);
+                voice.player.close();
+            }
+        }
+
+        activeList.clear();
+    }
+
+    /**
+     * Returns the number of voices that are playing.
+     *
+     * @return
+     */
+    public int getActiveCount()
+    {
+        return activeList.size();
+    }
+
+    private void stop(Voice voice)
+    {
+        voice.player.close();
+        activeList.remove(voice);
+    }
+
+    /**
+     * Removes the voices that have finished playing from the active list.
+     */
+    private void removeFinished(long now)
+    {
+        for (Iterator<Voice> it = activeList.iterator(); it.hasNext();)
+        {
+            Voice voice = it.next();
+
+            if (now - voice.startTime > START_GRACE_PERIOD
+                    && !voice.player.isPlaying())
+            {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Finds the oldest playing voice of the given sound.
+     */
+    private Voice findOldest(Sound sound)
+    {
+        for (Voice voice : activeList)
+        {
+            if (voice.sound == sound)
+                return voice;
+        }
+
+        throw new IllegalStateException("No voice is playing " + sound);
+    }
+
+    /**
+     * Finds the voice to steal for a sound of the given priority, or null
+     * if every playing voice is more important.
+     */
+    private Voice findVictim(int priority)
+    {
+        Voice victim = null;
+
+        // The active list is oldest first, so ties go to the oldest.
+        for (Voice voice : activeList)
+        {
+            final int p = voice.sound.getPriority();
+
+            if (p > priority)
+                continue;
+
+            if (victim == null
+                    || p < victim.sound.getPriority()
+                    || (p == victim.sound.getPriority()
+                        && voice.normalizedGain < victim.normalizedGain))
+            {
+                victim = voice;
+            }
+        }
+
+        return victim;
+    }
+
+}
@@ -26,4 +26,16 @@ public class CollisionEvent extends EventObject
     {
         return chain;
     }
+    
+    /**
+     * Reinitializes the event so that it may be reused for another dispatch.
+     * 
+     * @param source
+     * @param chain
+     */
+    public void set(Object source, Chain chain)
+    {
+        this.source = source;
+        this.chain  = chain;
+    }
 }
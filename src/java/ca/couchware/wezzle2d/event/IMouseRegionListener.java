@@ -0,0 +1,29 @@
+/*
+ *  Wezzle
+ *  Copyright (c) 2007-2008 Couchware Inc.  All rights reserved.
+ */
+
+package ca.couchware.wezzle2d.event;
+
+import ca.couchware.wezzle2d.util.ImmutableRectangle;
+
+/**
+ * A mouse listener that only cares about a rectangular region of the screen,
+ * such as a button.  The window indexes these listeners by their region and
+ * only routes a mouse event to the ones it could concern: those under the
+ * cursor, those that were under the cursor for the previous event (so they
+ * can see the mouse leave) and, for drags and releases, those that received 
+ * the last press.
+ * 
+ * @author cdmckay
+ */
+public interface IMouseRegionListener extends IMouseListener
+{
+    /**
+     * Gets the region of the screen this listener is interested in.  The
+     * region should be replaced, not modified, when it changes.
+     * 
+     * @return The region.
+     */
+    public ImmutableRectangle getShape();
+}
@@ -40,9 +40,9 @@ public class KeyEvent extends EventObject
         KEY_RIGHT
     }
     
-    final private char ch;
+    private char ch;
     final private Set<Modifier> modifers;
-    final private Arrow arrow;
+    private Arrow arrow;
     
     public KeyEvent(Object source, char ch, Set<Modifier> modifiers, Arrow arrow)
     {
@@ -67,4 +67,18 @@ public class KeyEvent extends EventObject
         return arrow;
     }
     
+    /**
+     * Reinitializes the event so that it may be reused for another dispatch.
+     * The modifier set is a view of the live modifier state, so it is not
+     * replaced.
+     * 
+     * @param ch
+     * @param arrow
+     */
+    public void set(char ch, Arrow arrow)
+    {
+        this.ch = ch;
+        this.arrow = arrow;
+    }
+    
 }
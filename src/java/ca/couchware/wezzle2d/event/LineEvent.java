@@ -28,4 +28,16 @@ public class LineEvent extends EventObject
         return this.lineCount; 
     }
     
+    /**
+     * Reinitializes the event so that it may be reused for another dispatch.
+     * 
+     * @param lineCount
+     * @param eventSource
+     */
+    public void set(int lineCount, Object eventSource)
+    {
+        this.source    = eventSource;
+        this.lineCount = lineCount;
+    }
+    
 }
\ No newline at end of file
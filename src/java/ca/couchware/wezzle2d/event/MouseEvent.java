@@ -46,15 +46,15 @@ public class MouseEvent extends EventObject
         META
     }
     
-    final private Button button;    
+    private Button button;    
     
-    final private EnumSet<Modifier> modifierState;
+    private EnumSet<Modifier> modifierState;
     
-    final private ImmutablePosition position;
+    private ImmutablePosition position;
     
-    final private Type type;
+    private Type type;
     
-    final private int deltaWheel;
+    private int deltaWheel;
     
     public MouseEvent(Object source,
             Button buttonState, 
@@ -165,6 +165,23 @@ public class MouseEvent extends EventObject
         return deltaWheel;
     }
     
+    /**
+     * Reinitializes the event so that it may be reused for another dispatch.
+     * The arguments are the same as the constructor's, less the source.
+     */
+    public void set(Button buttonState,
+            EnumSet<Modifier> modifierState,
+            ImmutablePosition position,
+            Type type,
+            int deltaWheel)
+    {
+        this.button = buttonState;
+        this.modifierState = modifierState;
+        this.position = position;
+        this.type = type;
+        this.deltaWheel = deltaWheel;
+    }
+    
     
 
 }
@@ -14,7 +14,7 @@ import java.util.EventObject;
  */
 public class MoveEvent extends EventObject
 {
-    final private int moveCount;
+    private int moveCount;
     
     public MoveEvent(Object source, int moveCount)
     {
@@ -26,6 +26,18 @@ public class MoveEvent extends EventObject
     { 
         return moveCount; 
     }
+    
+    /**
+     * Reinitializes the event so that it may be reused for another dispatch.
+     * 
+     * @param source
+     * @param moveCount
+     */
+    public void set(Object source, int moveCount)
+    {
+        this.source    = source;
+        this.moveCount = moveCount;
+    }
 
 
 }
\ No newline at end of file
@@ -16,8 +16,8 @@ import java.util.EventObject;
 public class PieceEvent extends EventObject
 {
     
-    final private Piece currentPiece;
-    final private Piece nextPiece;
+    private Piece currentPiece;
+    private Piece nextPiece;
     
     public PieceEvent(Object source, Piece currentPiece, Piece nextPiece)
     {
@@ -36,4 +36,18 @@ public class PieceEvent extends EventObject
         return nextPiece;
     }        
     
+    /**
+     * Reinitializes the event so that it may be reused for another dispatch.
+     * 
+     * @param source
+     * @param currentPiece
+     * @param nextPiece
+     */
+    public void set(Object source, Piece currentPiece, Piece nextPiece)
+    {
+        this.source       = source;
+        this.currentPiece = currentPiece;
+        this.nextPiece    = nextPiece;
+    }
+    
 }
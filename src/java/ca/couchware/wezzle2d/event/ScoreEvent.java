@@ -36,4 +36,16 @@ public class ScoreEvent extends EventObject
         return score;
     }    
     
+    /**
+     * Reinitializes the event so that it may be reused for another dispatch.
+     * 
+     * @param source
+     * @param score
+     */
+    public void set(Object source, int score)
+    {
+        this.source = source;
+        this.score  = score;
+    }
+    
 }
\ No newline at end of file
@@ -15,10 +15,10 @@ import java.util.EventObject;
 public class TimerEvent extends EventObject
 {
     /** The start time at the time the event was fired. */
-    final private int startTime;
+    private int startTime;
     
     /** The current time at the time the event was fired. */
-    final private int currentTime;
+    private int currentTime;
     
     public TimerEvent(Object source, int startTime, int currentTime)
     {
@@ -36,5 +36,19 @@ public class TimerEvent extends EventObject
     {
         return currentTime;
     }
+    
+    /**
+     * Reinitializes the event so that it may be reused for another dispatch.
+     * 
+     * @param source
+     * @param startTime
+     * @param currentTime
+     */
+    public void set(Object source, int startTime, int currentTime)
+    {
+        this.source      = source;
+        this.startTime   = startTime;
+        this.currentTime = currentTime;
+    }
             
 }
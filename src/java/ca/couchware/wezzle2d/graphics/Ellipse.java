@@ -22,7 +22,7 @@ public class Ellipse extends AbstractEntity
     private final IWindow win;
     private final IGraphics graphics;
     private final boolean filled;
-    private Color color;
+    private int color;
 
     private Ellipse(Builder builder)
     {
@@ -56,7 +56,7 @@ public class Ellipse extends AbstractEntity
 
         // Create the background colour.  This colour is changed each time
         // the opacity is changed.
-        this.color = CouchColor.newInstance(builder.color, (builder.opacity * 255) / 100).toColor();
+        this.color = CouchColor.withAlpha(builder.color.getRGB(), (builder.opacity * 255) / 100);
     }
 
     public static class Builder implements IBuilder<Ellipse>
@@ -95,7 +95,7 @@ public class Ellipse extends AbstractEntity
             this.opacity = ellipse.opacity;
             this.disabled = ellipse.disabled;
             this.filled = ellipse.filled;           
-            this.color = ellipse.color;
+            this.color = new Color(ellipse.color, true);
         }
 
         public Builder x(int val) { x = val; return this; }
@@ -132,7 +132,7 @@ public class Ellipse extends AbstractEntity
     @Override
     public boolean draw()
     {
-        CouchColor oldColor = this.graphics.getColor();
+        int oldColor = this.graphics.getPackedColor();
         this.graphics.setColor(this.color);
 
         if (this.filled)
@@ -42,7 +42,9 @@ public class GraphicEntity extends AbstractEntity
     {
         // Load the sprite.
         this.path = builder.path;
-        this.sprite = ResourceFactory.get().getSprite( builder.path );
+        this.sprite = builder.sprite != null
+                ? builder.sprite
+                : ResourceFactory.get().getSprite( builder.path );
 
         // Set the position.
         this.x = builder.x;
@@ -85,6 +87,8 @@ public class GraphicEntity extends AbstractEntity
         private String path;
 
         // Optional values.
+        private ISprite sprite = null;
+
         private EnumSet<Alignment> alignment = EnumSet.of( Alignment.TOP, Alignment.LEFT );
 
         private IAnimation animation = null;
@@ -103,6 +107,7 @@ public class GraphicEntity extends AbstractEntity
         public Builder(GraphicEntity entity)
         {
             this.path = entity.path;
+            this.sprite = entity.sprite;
             this.x = entity.x;
             this.y = entity.y;
             this.alignment = entity.alignment.clone();
@@ -129,6 +134,15 @@ public class GraphicEntity extends AbstractEntity
             return this;
         }
 
+        /**
+         * Use an already loaded sprite instead of looking one up by path.
+         */
+        public Builder sprite(ISprite val)
+        {
+            sprite = val;
+            return this;
+        }
+
         public Builder alignment(EnumSet<Alignment> val)
         {
             alignment = val;
@@ -175,8 +189,8 @@ public class GraphicEntity extends AbstractEntity
 
 //        sprite.draw(x + offsetX, y + offsetY, 
 //                width, height, theta, opacity);      
-        sprite.draw( x + offsetX, y + offsetY ).width( width ).height( height ).
-                theta( theta, rotationAnchor ).opacity( opacity ).end();
+        sprite.draw( x + offsetX, y + offsetY, width, height,
+                theta, rotationAnchor.getX(), rotationAnchor.getY(), opacity );
 
         return true;
     }
@@ -34,51 +34,45 @@ public interface ISprite
 	 */
 	public ISpriteDrawer draw(int x, int y);    
     
-//    /**
-//	 * Draw the sprite, scaled to the width and height provided, rotated by
-//     * theta, with the given opacity percentage (as an integer).
-//	 * 
-//	 * @param x
-//	 *            The x location at which to draw the sprite.
-//	 * @param y
-//	 *            The y location at which to draw the sprite.
-//     * @param width The width.
-//     * @param height The height.
-//     * @param theta The amount of rotation, in radians.
-//     * @param opacity The integer opacity, from 0 to 100.
-//	 */
-//    public void draw(int x, int y, 
-//            int width, int height, 
-//            double theta, int opacity);
-//    
-//    /**
-//	 * Draw the sprite, scaled to the width and height provided, rotated by
-//     * theta, with the given opacity percentage (as an integer).
-//	 * 
-//	 * @param x
-//	 *            The x location at which to draw the sprite.
-//	 * @param y
-//	 *            The y location at which to draw the sprite.    
-//     * @param theta The amount of rotation, in radians.
-//     * @param opacity The integer opacity, from 0 to 100.
-//	 */
-//    public void draw(int x, int y, double theta, int opacity);
-//    
-//    /**
-//     * Draw the the region of the sprite to the the coordinate provided with
-//     * the given opacity.
-//     * 
-//     * @param x
-//     * @param y
-//     * @param rx
-//     * @param ry
-//     * @param rwidth
-//     * @param rheight
-//     * @param opacity
-//     */
-//    public void drawRegion(int x, int y, 
-//            int width, int height,
-//            int rx, int ry, 
-//            int rwidth, int rheight, 
-//            double theta, int opacity);        
-}
\ No newline at end of file
+    /**
+     * Draw the sprite, scaled to the width and height provided, rotated by
+     * theta about the anchor (tx, ty), with the given opacity percentage.
+     * Unlike {@link #draw(int, int)}, this does not allocate a drawer, so 
+     * it is the preferred path for entities drawn every frame.
+     * 
+     * @param x The x location at which to draw the sprite.
+     * @param y The y location at which to draw the sprite.
+     * @param width The width.
+     * @param height The height.
+     * @param theta The amount of rotation, in radians.
+     * @param tx The x-coordinate of the rotation anchor, relative to x.
+     * @param ty The y-coordinate of the rotation anchor, relative to y.
+     * @param opacity The integer opacity, from 0 to 100.
+     */
+    public void draw(int x, int y,
+            int width, int height,
+            double theta, int tx, int ty,
+            int opacity);
+    
+    /**
+     * Draw the region of the sprite starting at (rx, ry) with the given 
+     * dimensions to the coordinate provided, rotated by theta about the 
+     * anchor (tx, ty), with the given opacity.  Does not allocate a drawer.
+     * 
+     * @param x
+     * @param y
+     * @param rx
+     * @param ry
+     * @param rwidth
+     * @param rheight
+     * @param theta
+     * @param tx
+     * @param ty
+     * @param opacity
+     */
+    public void drawRegion(int x, int y,
+            int rx, int ry,
+            int rwidth, int rheight,
+            double theta, int tx, int ty,
+            int opacity);
+}
@@ -14,6 +14,8 @@ import ca.couchware.wezzle2d.animation.FinishedAnimation;
 import ca.couchware.wezzle2d.animation.IAnimation;
 import ca.couchware.wezzle2d.audio.Sound;
 import ca.couchware.wezzle2d.graphics.IEntity;
+import ca.couchware.wezzle2d.manager.LayerManager;
+import ca.couchware.wezzle2d.manager.LayerManager.Layer;
 import ca.couchware.wezzle2d.ui.IButton;
 import ca.couchware.wezzle2d.ui.RadioGroup;
 import ca.couchware.wezzle2d.ui.Scroller;
@@ -209,6 +211,23 @@ public abstract class AbstractGroup extends AbstractEntity implements IGroup
         // Optionally overridden.
     }
     
+    /**
+     * Removes the group's entities from the layer they were added to.  This
+     * is for groups that are disposed of before their layer manager is.
+     * Entities that are not in the layer are skipped.
+     * 
+     * @param layerMan The layer manager the entities were added to.
+     * @param layer The layer the entities were added to.
+     */
+    protected void removeEntities(LayerManager layerMan, Layer layer)
+    {
+        for (IEntity e : entityList)
+        {
+            if (layerMan.contains(e, layer))
+                layerMan.remove(e, layer);
+        }
+    }
+    
     @Override
     public void dispose()
     {
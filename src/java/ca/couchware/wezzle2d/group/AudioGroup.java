@@ -217,4 +217,12 @@ public class AudioGroup extends AbstractGroup
         // Clear the change setting.
         this.clearChanged();
     }
+
+    @Override
+    public void dispose()
+    {
+        removeEntities(hub.layerMan, Layer.UI);
+        super.dispose();
+    }
+
 }
@@ -138,4 +138,12 @@ public class ExitGameGroup extends AbstractGroup
         // Clear the change setting.
         this.clearChanged();
     }
+
+    @Override
+    public void dispose()
+    {
+        removeEntities(hub.layerMan, Layer.UI);
+        super.dispose();
+    }
+
 }
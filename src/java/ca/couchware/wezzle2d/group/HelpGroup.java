@@ -412,4 +412,14 @@ public class HelpGroup extends AbstractGroup
         return slideFade;
     }
 
+    @Override
+    public void dispose()
+    {
+        this.animationMan.remove( this.animation );
+        this.animation.setFinished();
+
+        removeEntities(hub.layerMan, Layer.HELP);
+        super.dispose();
+    }
+
 }
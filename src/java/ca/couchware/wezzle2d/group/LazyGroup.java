@@ -0,0 +1,118 @@
+/*
+ *  Wezzle
+ *  Copyright (c) 2007-2008 Couchware Inc.  All rights reserved.
+ */
+
+package ca.couchware.wezzle2d.group;
+
+import ca.couchware.wezzle2d.manager.Settings;
+
+/**
+ * A holder for a group that is expensive to build and only shown now and
+ * then.  The group is not created until the first time it is asked for, and
+ * it is disposed of again once it has gone unused for long enough, to be
+ * rebuilt the next time it is asked for.
+ * 
+ * @author cdmckay
+ */
+public abstract class LazyGroup<T extends IGroup>
+{
+    
+    /** The group, or null if it has not been created. */
+    private T group;
+    
+    /** The number of ticks the group has been idle for. */
+    private int idleTicks = 0;
+    
+    /**
+     * Creates the group.
+     * 
+     * @return The new group.
+     */
+    protected abstract T create();
+    
+    /**
+     * Called just before the group is disposed.  Overridden to undo anything
+     * that was done to the group outside of its constructor in create(), 
+     * such as registering it.
+     * 
+     * @param group The group that is about to be disposed.
+     */
+    protected void release(T group)
+    {
+        // Optionally overridden.
+    }
+    
+    /**
+     * Gets the group, creating it if necessary.  This counts as a use of the
+     * group, so the idle time is reset.
+     * 
+     * @return The group.
+     */
+    public T get()
+    {
+        if (group == null)
+            group = create();
+        
+        idleTicks = 0;
+        return group;
+    }
+    
+    /**
+     * Gets the group without creating it or resetting the idle time.
+     * 
+     * @return The group, or null if it has not been created.
+     */
+    public T peek()
+    {
+        return group;
+    }
+    
+    public boolean isCreated()
+    {
+        return group != null;
+    }
+    
+    /**
+     * Advances the idle time by one tick, and disposes of the group if it
+     * has been idle for at least the given delay.  A group is never idle while
+     * it is activated or in use.
+     * 
+     * @param inUse True if the group is being used (i.e. shown) by its owner.
+     * @param idleDelay The idle time in ms before the group is disposed.  If
+     * this is not positive, the group is never disposed.
+     */
+    public void tick(boolean inUse, int idleDelay)
+    {
+        if (group == null)
+            return;
+        
+        if (inUse || group.isActivated() || idleDelay <= 0)
+        {
+            idleTicks = 0;
+            return;
+        }
+        
+        idleTicks++;
+        
+        if (idleTicks * Settings.getMillisecondsPerTick() >= idleDelay)
+            dispose();
+    }
+    
+    /**
+     * Disposes of the group, if it has been created.  It will be re-created
+     * the next time it is asked for.
+     */
+    public void dispose()
+    {
+        if (group == null)
+            return;
+        
+        release(group);
+        group.dispose();
+        
+        group = null;
+        idleTicks = 0;
+    }
+    
+}
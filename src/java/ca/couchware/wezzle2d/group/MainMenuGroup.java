@@ -27,6 +27,8 @@ import java.util.EnumSet;
  */
 public class MainMenuGroup extends AbstractGroup
 {           
+    private ManagerHub hub;
+
     private ITextLabel headerLabel;                     
 
     private IButton yesButton;
@@ -44,6 +46,8 @@ public class MainMenuGroup extends AbstractGroup
             throw new IllegalArgumentException("Hub must not be null");
         }        
 
+        this.hub = hub;
+
         // The colors.
         final Color LABEL_COLOR  = hub.settingsMan.getColor(Key.GAME_COLOR_PRIMARY);
         final Color OPTION_COLOR = hub.settingsMan.getColor(Key.GAME_COLOR_SECONDARY);
@@ -156,4 +160,12 @@ public class MainMenuGroup extends AbstractGroup
         // Clear the change setting.
         this.clearChanged();
     }
+
+    @Override
+    public void dispose()
+    {
+        removeEntities(hub.layerMan, Layer.UI);
+        super.dispose();
+    }
+
 }
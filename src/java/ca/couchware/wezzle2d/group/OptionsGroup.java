@@ -25,6 +25,8 @@ import java.util.logging.Logger;
  */
 public class OptionsGroup extends AbstractGroup
 {   
+    private ManagerHub hub;
+
     private ITextLabel headerLabel;
     private Button audioButton;
     private Button mainMenuButton;    
@@ -53,6 +55,8 @@ public class OptionsGroup extends AbstractGroup
         {
             throw new IllegalArgumentException("Hub must not be null");
         }
+
+        this.hub = hub;
         
         // Create the options header.
         headerLabel = new LabelBuilder(400, 171)
@@ -201,4 +205,19 @@ public class OptionsGroup extends AbstractGroup
         this.clearChanged();
     }
     
+
+    @Override
+    public void dispose()
+    {
+        removeEntities(hub.layerMan, Layer.UI);
+        super.dispose();
+
+        // The sub-groups are owned by this group, so they go with it.
+        for (IGroup group : new IGroup[] { audio, mainMenu, exitGame })
+        {
+            hub.groupMan.unregister(group);
+            group.dispose();
+        }
+    }
+    
 }
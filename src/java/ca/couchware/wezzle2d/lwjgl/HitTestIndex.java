@@ -0,0 +1,275 @@
+/*
+ *  Wezzle
+ *  Copyright (c) 2007-2008 Couchware Inc.  All rights reserved.
+ */
+
+package ca.couchware.wezzle2d.lwjgl;
+
+import ca.couchware.wezzle2d.Game;
+import ca.couchware.wezzle2d.event.IMouseRegionListener;
+import ca.couchware.wezzle2d.event.MouseEvent;
+import ca.couchware.wezzle2d.util.ImmutableRectangle;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A uniform grid over the screen that indexes region mouse listeners by
+ * their shapes, so that a mouse event can be routed to the few listeners 
+ * it concerns instead of every registered one.
+ * <p>
+ * The grid is rebuilt lazily whenever a listener is added or removed, or 
+ * when a listener's shape has been replaced since the last rebuild.
+ * 
+ * @author cdmckay
+ */
+class HitTestIndex
+{
+    
+    /** The size of a grid cell, in pixels. */
+    private static final int CELL_SIZE = 64;
+    
+    /** The number of columns in the grid. */
+    private static final int COLUMNS = (Game.SCREEN_WIDTH + CELL_SIZE - 1) / CELL_SIZE;
+    
+    /** The number of rows in the grid. */
+    private static final int ROWS = (Game.SCREEN_HEIGHT + CELL_SIZE - 1) / CELL_SIZE;
+    
+    /**
+     * A listener in the index.
+     */
+    private static class Entry
+    {
+        final IMouseRegionListener listener;
+        
+        /** The registration order, used to keep dispatch order stable. */
+        final int order;
+        
+        /** The shape the listener had when the grid was last built. */
+        ImmutableRectangle shape;
+        
+        /** Whether the listener has been removed from the index. */
+        boolean removed = false;
+        
+        /** The last collection pass this entry was added to a target list. */
+        int stamp = 0;
+        
+        Entry(IMouseRegionListener listener, int order)
+        {
+            this.listener = listener;
+            this.order = order;
+        }
+    }
+    
+    /** The entries, in registration order. */
+    private final List<Entry> entryList = new ArrayList<Entry>();
+    
+    /** The entry for each listener. */
+    private final Map<IMouseRegionListener, Entry> entryMap = 
+            new IdentityHashMap<IMouseRegionListener, Entry>();
+    
+    /** The grid cells, in row-major order. */
+    private final List<List<Entry>> cellList;
+    
+    /** Whether the grid must be rebuilt. */
+    private boolean dirty = false;
+    
+    /** The next registration order. */
+    private int nextOrder = 0;
+    
+    /** The current collection pass. */
+    private int stamp = 0;
+    
+    /** The entries that were under the cursor for the previous event. */
+    private List<Entry> lastHitList = new ArrayList<Entry>();
+    
+    /** The entries that are under the cursor for the current event. */
+    private List<Entry> hitList = new ArrayList<Entry>();
+    
+    /** The entries that received the last press. */
+    private final List<Entry> pressedList = new ArrayList<Entry>();
+    
+    /** The entries to dispatch the current event to. */
+    private final List<Entry> targetList = new ArrayList<Entry>();
+    
+    HitTestIndex()
+    {
+        this.cellList = new ArrayList<List<Entry>>(COLUMNS * ROWS);
+        
+        for (int i = 0; i < COLUMNS * ROWS; i++)
+            cellList.add(new ArrayList<Entry>());
+    }
+    
+    public boolean contains(IMouseRegionListener listener)
+    {
+        return entryMap.containsKey(listener);
+    }
+    
+    public void add(IMouseRegionListener listener)
+    {
+        Entry entry = new Entry(listener, nextOrder++);
+        entryMap.put(listener, entry);
+        entryList.add(entry);
+        dirty = true;
+    }
+    
+    public void remove(IMouseRegionListener listener)
+    {
+        Entry entry = entryMap.remove(listener);
+        entry.removed = true;
+        entryList.remove(entry);
+        dirty = true;
+    }
+    
+    /**
+     * Rebuilds the grid if any listener has been added or removed or has
+     * changed its shape.  Should be called once before a batch of events
+     * is routed.
+     */
+    public void validate()
+    {
+        if (!dirty)
+        {
+            for (int i = 0; i < entryList.size(); i++)
+            {
+                Entry entry = entryList.get(i);
+                
+                if (entry.shape != entry.listener.getShape())
+                {
+                    dirty = true;
+                    break;
+                }
+            }
+        }
+        
+        if (dirty) rebuild();
+    }
+    
+    private void rebuild()
+    {
+        for (List<Entry> cell : cellList)
+            cell.clear();
+        
+        for (Entry entry : entryList)
+        {
+            ImmutableRectangle r = entry.listener.getShape();
+            entry.shape = r;
+            
+            if (r == null || r.getWidth() <= 0 || r.getHeight() <= 0)
+                continue;
+            
+            int c0 = toColumn(r.getX());
+            int c1 = toColumn(r.getMaxX());
+            int r0 = toRow(r.getY());
+            int r1 = toRow(r.getMaxY());
+            
+            for (int row = r0; row <= r1; row++)
+                for (int col = c0; col <= c1; col++)
+                    cellList.get(row * COLUMNS + col).add(entry);
+        }
+        
+        dirty = false;
+    }
+    
+    private static int toColumn(int x)
+    {
+        return Math.max(0, Math.min(COLUMNS - 1, x / CELL_SIZE));
+    }
+    
+    private static int toRow(int y)
+    {
+        return Math.max(0, Math.min(ROWS - 1, y / CELL_SIZE));
+    }
+    
+    /**
+     * Collects the listeners that should receive the given event into the
+     * passed list, in registration order.
+     * 
+     * @param type The event type.
+     * @param x The cursor x-coordinate.
+     * @param y The cursor y-coordinate.
+     * @param out The list to add the listeners to.  It is cleared first.
+     */
+    public void collect(MouseEvent.Type type, int x, int y, 
+            List<IMouseRegionListener> out)
+    {
+        out.clear();
+        stamp++;
+        
+        // Find the listeners under the cursor.
+        hitList.clear();
+        
+        if (x >= 0 && y >= 0 && x < Game.SCREEN_WIDTH && y < Game.SCREEN_HEIGHT)
+        {
+            List<Entry> cell = cellList.get(toRow(y) * COLUMNS + toColumn(x));
+            
+            for (int i = 0; i < cell.size(); i++)
+            {
+                Entry entry = cell.get(i);
+                if (entry.shape.contains(x, y)) hitList.add(entry);
+            }
+        }
+        
+        targetList.clear();
+        addTargets(hitList);
+        addTargets(lastHitList);
+        
+        if (type == MouseEvent.Type.MOUSE_DRAGGED 
+                || type == MouseEvent.Type.MOUSE_RELEASED)
+        {
+            addTargets(pressedList);
+        }
+        
+        // Update the routing state.
+        switch (type)
+        {
+            case MOUSE_PRESSED:
+                pressedList.clear();
+                pressedList.addAll(hitList);
+                break;
+                
+            case MOUSE_RELEASED:
+                pressedList.clear();
+                break;
+        }
+        
+        List<Entry> swap = lastHitList;
+        lastHitList = hitList;
+        hitList = swap;
+        
+        // Sort into registration order.  The lists are tiny, so an insertion
+        // sort is fine.
+        for (int i = 1; i < targetList.size(); i++)
+        {
+            Entry entry = targetList.get(i);
+            int j = i - 1;
+            
+            while (j >= 0 && targetList.get(j).order > entry.order)
+            {
+                targetList.set(j + 1, targetList.get(j));
+                j--;
+            }
+            
+            targetList.set(j + 1, entry);
+        }
+        
+        for (int i = 0; i < targetList.size(); i++)
+            out.add(targetList.get(i).listener);
+    }
+    
+    private void addTargets(List<Entry> list)
+    {
+        for (int i = 0; i < list.size(); i++)
+        {
+            Entry entry = list.get(i);
+            
+            if (entry.removed || entry.stamp == stamp) 
+                continue;
+            
+            entry.stamp = stamp;
+            targetList.add(entry);
+        }
+    }
+    
+}
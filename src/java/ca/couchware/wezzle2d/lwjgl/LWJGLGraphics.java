@@ -6,10 +6,18 @@ package ca.couchware.wezzle2d.lwjgl;
 
 import ca.couchware.wezzle2d.IGraphics;
 import ca.couchware.wezzle2d.util.CouchColor;
+import ca.couchware.wezzle2d.util.ImmutableRectangle;
 import java.awt.Color;
 import java.awt.Rectangle;
 import java.awt.Shape;
+import java.awt.geom.Area;
 import java.awt.geom.Ellipse2D;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import org.lwjgl.BufferUtils;
+import org.lwjgl.opengl.Display;
 import org.lwjgl.opengl.GL11;
 
 /**
@@ -24,8 +32,8 @@ public class LWJGLGraphics implements IGraphics
         
     }
 
-    /** The current colour. */
-    private CouchColor color = CouchColor.newInstance(Color.WHITE);
+    /** The current colour, packed as an ARGB int. */
+    private int color = CouchColor.WHITE;
 
     /**
      * Sets the current drawing colour.
@@ -34,12 +42,17 @@ public class LWJGLGraphics implements IGraphics
      */
     public void setColor(Color color)
     {
-        this.color = CouchColor.newInstance(color);
+        this.color = color.getRGB();
     }
 
     public void setColor(CouchColor color)
     {
-        this.color = color;
+        this.color = color.toPacked();
+    }
+
+    public void setColor(int argb)
+    {
+        this.color = argb;
     }
 
     /**
@@ -48,6 +61,11 @@ public class LWJGLGraphics implements IGraphics
      * @return
      */
     public CouchColor getColor()
+    {
+        return CouchColor.newInstance(color);
+    }
+
+    public int getPackedColor()
     {
         return color;
     }
@@ -63,12 +81,67 @@ public class LWJGLGraphics implements IGraphics
         // See if the shape is null, if it is, then disable the clip.
         if (shape == null)
         {
+            GL11.glDisable(GL11.GL_SCISSOR_TEST);
             GL11.glDisable(GL11.GL_STENCIL_TEST);
             return;
         }
 
-        // Stencil out the shape.
-        stencilClip(shape);
+        // Rectangles can be clipped with the scissor test, which needs no
+        // extra drawing.  Anything else is stencilled out.
+        Rectangle rect = getRectangularBounds(shape);
+
+        if (rect != null)
+        {
+            GL11.glDisable(GL11.GL_STENCIL_TEST);
+            scissorClip(rect);
+        }
+        else
+        {
+            GL11.glDisable(GL11.GL_SCISSOR_TEST);
+            stencilClip(shape);
+        }
+    }
+
+    /**
+     * Returns the bounds of the shape if it is an axis-aligned rectangle, or
+     * null if it is not.
+     *
+     * @param shape
+     * @return
+     */
+    static Rectangle getRectangularBounds(Shape shape)
+    {
+        if (shape instanceof Rectangle)
+        {
+            return (Rectangle) shape;
+        }
+        else if (shape instanceof ImmutableRectangle)
+        {
+            return ((ImmutableRectangle) shape).getBounds();
+        }
+        else if (shape instanceof Area && ((Area) shape).isRectangular())
+        {
+            return shape.getBounds();
+        }
+
+        return null;
+    }
+
+    /**
+     * Clip a rectangle using the scissor test.
+     *
+     * @param rect
+     */
+    private void scissorClip(Rectangle rect)
+    {
+        // The scissor box is in window coordinates, which start at the 
+        // bottom-left rather than the top-left.
+        final int windowHeight = Display.getDisplayMode().getHeight();
+
+        GL11.glEnable(GL11.GL_SCISSOR_TEST);
+        GL11.glScissor(
+                rect.x, windowHeight - (rect.y + rect.height),
+                Math.max(0, rect.width), Math.max(0, rect.height));
     }
 
     /**
@@ -126,7 +199,7 @@ public class LWJGLGraphics implements IGraphics
     {
         GL11.glDisable(GL11.GL_TEXTURE_2D);
 
-        this.color.bind();
+        CouchColor.bind(color);
 
         GL11.glBegin(GL11.GL_LINE_LOOP);
         GL11.glVertex2f(x, y);
@@ -150,7 +223,7 @@ public class LWJGLGraphics implements IGraphics
     {
         GL11.glDisable(GL11.GL_TEXTURE_2D);
 
-        this.color.bind();
+        CouchColor.bind(color);
 
         GL11.glBegin(GL11.GL_QUADS);
         GL11.glVertex2f(x, y);
@@ -202,7 +275,7 @@ public class LWJGLGraphics implements IGraphics
             return;
         }
 
-        this.color.bind();
+        CouchColor.bind(color);
 
         GL11.glBegin(GL11.GL_LINES);
         GL11.glVertex2f(x1, y1);
@@ -212,6 +285,93 @@ public class LWJGLGraphics implements IGraphics
     /** The value of two times PI. */
     final private static double TWO_PI = 2.0 * Math.PI;
 
+    /** The cosine of each whole degree, used when tessellating arcs. */
+    final private static float[] COS_TABLE = new float[360];
+
+    /** The sine of each whole degree, used when tessellating arcs. */
+    final private static float[] SIN_TABLE = new float[360];
+
+    static
+    {
+        for (int i = 0; i < 360; i++)
+        {
+            COS_TABLE[i] = (float) Math.cos(Math.toRadians(i));
+            SIN_TABLE[i] = (float) Math.sin(Math.toRadians(i));
+        }
+    }
+
+    /**
+     * The unit circle vertices for each point count that has been drawn, 
+     * stored as interleaved cos/sin pairs.
+     */
+    final private Map<Integer, float[]> unitCircleMap =
+            new HashMap<Integer, float[]>();
+
+    /**
+     * Gets the vertices of a unit circle with the given number of points,
+     * building and caching them the first time they are asked for.  The 
+     * first vertex is repeated at the end to close the shape.
+     *
+     * @param points
+     * @return
+     */
+    private float[] getUnitCircle(int points)
+    {
+        float[] circle = unitCircleMap.get(points);
+
+        if (circle == null)
+        {
+            circle = new float[(points + 1) * 2];
+
+            for (int i = 0; i <= points; i++)
+            {
+                double t = (TWO_PI * i) / points;
+                circle[i * 2]     = (float) Math.cos(t);
+                circle[i * 2 + 1] = (float) Math.sin(t);
+            }
+
+            unitCircleMap.put(points, circle);
+        }
+
+        return circle;
+    }
+
+    /**
+     * Returns the cosine of an angle in degrees, using the lookup table
+     * when the angle is a whole number of degrees.
+     *
+     * @param angle
+     * @return
+     */
+    private static float cosDegrees(float angle)
+    {
+        int a = (int) angle;
+        if (a == angle)
+        {
+            return COS_TABLE[((a % 360) + 360) % 360];
+        }
+
+        return (float) Math.cos(Math.toRadians(angle));
+    }
+
+    /**
+     * Returns the sine of an angle in degrees, using the lookup table
+     * when the angle is a whole number of degrees.
+     *
+     * @param angle
+     * @return
+     */
+    private static float sinDegrees(float angle)
+    {
+        int a = (int) angle;
+        if (a == angle)
+        {
+            return SIN_TABLE[((a % 360) + 360) % 360];
+        }
+
+        return (float) Math.sin(Math.toRadians(angle));
+    }
+
     /**
      * Draws an ellipse outline.
      * 
@@ -228,7 +388,7 @@ public class LWJGLGraphics implements IGraphics
     {
         GL11.glDisable(GL11.GL_TEXTURE_2D);
 
-        this.color.bind();
+        CouchColor.bind(color);
 
         float xf = (float) (x + width / 2);
         float yf = (float) (y + height / 2);
@@ -237,12 +397,15 @@ public class LWJGLGraphics implements IGraphics
 
         int mode = filled ? GL11.GL_POLYGON : GL11.GL_LINE_LOOP;
 
+        // Scale and translate the unit circle onto the ellipse.
+        final float[] circle = getUnitCircle(points);
+
         GL11.glBegin(mode);
-        for (double t = 0.0; t <= TWO_PI; t += TWO_PI / points)
+        for (int i = 0; i < circle.length; i += 2)
         {
             GL11.glVertex2f(
-                    wf * (float) Math.cos(t) + xf,
-                    hf * (float) Math.sin(t) + yf);
+                    wf * circle[i] + xf,
+                    hf * circle[i + 1] + yf);
         }
         GL11.glEnd();
 
@@ -292,7 +455,7 @@ public class LWJGLGraphics implements IGraphics
     {
         GL11.glDisable(GL11.GL_TEXTURE_2D);
 
-        this.color.bind();
+        CouchColor.bind(color);
 
         while (end < start)
         {
@@ -314,8 +477,8 @@ public class LWJGLGraphics implements IGraphics
                 angle = end;
             }
 
-            float x = (float) (cx + (Math.cos(Math.toRadians(angle)) * width / 2.0f));
-            float y = (float) (cy + (Math.sin(Math.toRadians(angle)) * height / 2.0f));
+            float x = cx + cosDegrees(angle) * width / 2.0f;
+            float y = cy + sinDegrees(angle) * height / 2.0f;
 
             GL11.glVertex2f(x, y);
         }
@@ -365,7 +528,7 @@ public class LWJGLGraphics implements IGraphics
         GL11.glDisable(GL11.GL_TEXTURE_2D);
         GL11.glEnable(GL11.GL_POLYGON_SMOOTH);
 
-        this.color.bind();
+        CouchColor.bind(color);
 
         GL11.glBegin(GL11.GL_TRIANGLE_FAN);
         GL11.glVertex2f(cx, cy);
@@ -378,8 +541,8 @@ public class LWJGLGraphics implements IGraphics
                 angle = end;
             }
 
-            float x = (float) (cx + (Math.cos(Math.toRadians(angle)) * width / 2.0f));
-            float y = (float) (cy + (Math.sin(Math.toRadians(angle)) * height / 2.0f));
+            float x = cx + cosDegrees(angle) * width / 2.0f;
+            float y = cy + sinDegrees(angle) * height / 2.0f;
 
             GL11.glVertex2f(x, y);
         }
@@ -401,10 +564,8 @@ public class LWJGLGraphics implements IGraphics
                 angle = end;
             }
 
-            float x = (float) (cx + (Math.cos(Math.toRadians(angle + 10))
-                    * width / 2.0f));
-            float y = (float) (cy + (Math.sin(Math.toRadians(angle + 10))
-                    * height / 2.0f));
+            float x = cx + cosDegrees(angle + 10) * width / 2.0f;
+            float y = cy + sinDegrees(angle + 10) * height / 2.0f;
 
             GL11.glVertex2f(x, y);
         }
@@ -521,4 +682,115 @@ public class LWJGLGraphics implements IGraphics
         // Top left - 180, 270.
         fillArc(x, y, d, d, segments, 180, 270);
     }
+
+    /** The texture holding the captured screen, or 0 if there isn't one. */
+    private int captureTextureId = 0;
+
+    /** The width of the capture texture. */
+    private int captureTextureWidth;
+
+    /** The height of the capture texture. */
+    private int captureTextureHeight;
+
+    /**
+     * Returns the smallest power of two that is at least the given value.
+     *
+     * @param val
+     * @return
+     */
+    private static int get2Fold(int val)
+    {
+        int fold = 2;
+
+        while (fold < val)
+            fold *= 2;
+
+        return fold;
+    }
+
+    public void captureScreen()
+    {
+        final int w = Display.getDisplayMode().getWidth();
+        final int h = Display.getDisplayMode().getHeight();
+
+        // Create the texture the first time, or if the display has grown.
+        if (captureTextureId == 0
+                || captureTextureWidth < w || captureTextureHeight < h)
+        {
+            releaseCapturedScreen();
+
+            IntBuffer buffer = BufferUtils.createIntBuffer(1);
+            GL11.glGenTextures(buffer);
+            captureTextureId = buffer.get(0);
+            captureTextureWidth = get2Fold(w);
+            captureTextureHeight = get2Fold(h);
+
+            GL11.glBindTexture(GL11.GL_TEXTURE_2D, captureTextureId);
+            GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MIN_FILTER, GL11.GL_NEAREST);
+            GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MAG_FILTER, GL11.GL_NEAREST);
+            GL11.glTexImage2D(GL11.GL_TEXTURE_2D, 0, GL11.GL_RGB,
+                    captureTextureWidth, captureTextureHeight, 0,
+                    GL11.GL_RGB, GL11.GL_UNSIGNED_BYTE, (ByteBuffer) null);
+        }
+
+        // Copy the screen into the bottom-left of the texture.
+        GL11.glBindTexture(GL11.GL_TEXTURE_2D, captureTextureId);
+        GL11.glCopyTexSubImage2D(GL11.GL_TEXTURE_2D, 0, 0, 0, 0, 0, w, h);
+    }
+
+    public void drawCapturedScreenAroundEllipse(
+            double x, double y,
+            double width, double height)
+    {
+        if (captureTextureId == 0)
+            return;
+
+        final int windowWidth = Display.getDisplayMode().getWidth();
+        final int windowHeight = Display.getDisplayMode().getHeight();
+
+        float xf = (float) (x + width / 2);
+        float yf = (float) (y + height / 2);
+        float wf = (float) width / 2;
+        float hf = (float) height / 2;
+
+        // The outer edge of the ring is far enough out to cover the window 
+        // no matter where the ellipse is.
+        float outer = (float) (windowWidth + windowHeight);
+
+        final float[] circle = getUnitCircle(DEFAULT_ELLIPSE_POINTS);
+
+        GL11.glColor4f(1f, 1f, 1f, 1f);
+        GL11.glBindTexture(GL11.GL_TEXTURE_2D, captureTextureId);
+
+        // Draw a ring from the ellipse out past the edge of the window,
+        // textured with the capture.  The capture is upside down, since
+        // the framebuffer starts at the bottom-left.
+        GL11.glBegin(GL11.GL_QUAD_STRIP);
+        for (int i = 0; i < circle.length; i += 2)
+        {
+            float ix = wf * circle[i] + xf;
+            float iy = hf * circle[i + 1] + yf;
+            float ox = outer * circle[i] + xf;
+            float oy = outer * circle[i + 1] + yf;
+
+            GL11.glTexCoord2f(ix / captureTextureWidth,
+                    (windowHeight - iy) / captureTextureHeight);
+            GL11.glVertex2f(ix, iy);
+            GL11.glTexCoord2f(ox / captureTextureWidth,
+                    (windowHeight - oy) / captureTextureHeight);
+            GL11.glVertex2f(ox, oy);
+        }
+        GL11.glEnd();
+    }
+
+    public void releaseCapturedScreen()
+    {
+        if (captureTextureId == 0)
+            return;
+
+        IntBuffer buffer = BufferUtils.createIntBuffer(1);
+        buffer.put(0, captureTextureId);
+        GL11.glDeleteTextures(buffer);
+        captureTextureId = 0;
+    }
 }
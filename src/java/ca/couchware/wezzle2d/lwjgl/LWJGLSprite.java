@@ -51,6 +51,16 @@ public class LWJGLSprite implements ISprite
      * The height in pixels of this sprite. 
      */
     private int height;
+    
+    /**
+     * The rectangle used to clip region draws.  Reused between draws.
+     */
+    private final Rectangle clipRect = new Rectangle();
+    
+    /**
+     * A scratch rectangle used when intersecting clips.
+     */
+    private final Rectangle scratchRect = new Rectangle();
 
     /**
      * Create a new sprite from a specified image.
@@ -107,7 +117,7 @@ public class LWJGLSprite implements ISprite
         return new SpriteDrawer(x, y);
     }        
 
-    private void draw(
+    public void draw(
             int x, int y, int width, int height,             
             double theta, int tx, int ty,
             int opacity)
@@ -163,27 +173,115 @@ public class LWJGLSprite implements ISprite
         GL11.glPopMatrix();
     }
 
-    private void drawRegion(
-            int x, int y, int width, int height, 
+    public void drawRegion(
+            int x, int y, 
             int regionX, int regionY, int regionWidth, int regionHeight,
             double theta, int tx, int ty,
             int opacity)
     {
         Shape clip = graphics.getClip();
+        Rectangle clipBounds = clip == null 
+                ? null 
+                : LWJGLGraphics.getRectangularBounds(clip);
         
-        // Intersect the clip with the region.
-        Area regionArea = new Area(new Rectangle(x, y, regionWidth, regionHeight));
-        if (clip != null)
+        // An unrotated region under a rectangular clip (or none) can be 
+        // drawn by cropping the quad and its texture coordinates, without
+        // touching the clip at all.
+        if (theta == 0.0 && (clip == null || clipBounds != null))
         {
-            Area clipArea = new Area(clip);
-            regionArea.intersect(clipArea);
+            clipRect.setBounds(x, y, regionWidth, regionHeight);
+            
+            if (clipBounds != null)
+            {
+                Rectangle.intersect(clipBounds, clipRect, clipRect);
+            }
+            
+            if (!clipRect.isEmpty())
+            {
+                drawCropped(x - regionX, y - regionY, clipRect, opacity);
+            }
+            
+            return;
         }
-
-        graphics.setClip(regionArea);
+        
+        // Intersect the clip with the region.  Rectangular clips are
+        // intersected in place to avoid building an area every draw.
+        if (clip == null)
+        {
+            clipRect.setBounds(x, y, regionWidth, regionHeight);
+            graphics.setClip(clipRect);
+        }
+        else if (clipBounds != null)
+        {
+            Rectangle.intersect(clipBounds, 
+                    tempRect(x, y, regionWidth, regionHeight), clipRect);
+            graphics.setClip(clipRect);
+        }
+        else
+        {
+            Area regionArea = new Area(new Rectangle(x, y, regionWidth, regionHeight));
+            regionArea.intersect(new Area(clip));
+            graphics.setClip(regionArea);
+        }
+        
         draw(x - regionX, y - regionY, width, height, theta, tx, ty, opacity);        
         graphics.setClip(clip);
     }
     
+    /**
+     * Draws the part of the sprite that falls within the given rectangle,
+     * cropping the texture coordinates to match.
+     * 
+     * @param x The x-coordinate of the sprite's top-left corner.
+     * @param y The y-coordinate of the sprite's top-left corner.
+     * @param crop The visible part of the sprite, in screen coordinates.
+     * @param opacity
+     */
+    private void drawCropped(int x, int y, Rectangle crop, int opacity)
+    {
+        if (opacity == 0)
+            return;
+        
+        GL11.glColor4f(1f, 1f, 1f, (float) opacity / 100f);
+        
+        // Bind to the appropriate texture for this sprite.
+        texture.bind();
+        
+        // Work out the texture coordinates of the crop.
+        final float s0 = texture.getWidth()  * (crop.x - x) / width;
+        final float t0 = texture.getHeight() * (crop.y - y) / height;
+        final float s1 = texture.getWidth()  * (crop.x + crop.width - x) / width;
+        final float t1 = texture.getHeight() * (crop.y + crop.height - y) / height;
+        
+        final int x1 = crop.x + crop.width;
+        final int y1 = crop.y + crop.height;
+        
+        GL11.glBegin(GL11.GL_QUADS);
+        {            
+            GL11.glTexCoord2f(s0, t0);
+            GL11.glVertex2f(crop.x, crop.y);
+            GL11.glTexCoord2f(s0, t1);
+            GL11.glVertex2f(crop.x, y1);
+            GL11.glTexCoord2f(s1, t1);
+            GL11.glVertex2f(x1, y1);
+            GL11.glTexCoord2f(s1, t0);
+            GL11.glVertex2f(x1, crop.y);
+        }
+        GL11.glEnd();
+        
+        // Turn off transparency again.
+        GL11.glColor4f(1f, 1f, 1f, 1f);
+    }
+    
+    /**
+     * Sets the scratch rectangle to the given bounds and returns it.
+     */
+    private Rectangle tempRect(int x, int y, int width, int height)
+    {
+        scratchRect.setBounds(x, y, width, height);
+        return scratchRect;
+    }
+    
     /**
 	 * Apply a rotation to everything drawn.
      * Adapted from Slick (http://slick.cokeandcode.com).
@@ -271,7 +369,7 @@ public class LWJGLSprite implements ISprite
             }
             else
             {                       
-                drawRegion(x, y, width, height, 
+                drawRegion(x, y, 
                         regionRect.getX(),     regionRect.getY(), 
                         regionRect.getWidth(), regionRect.getHeight(),
                         theta, tx, ty,
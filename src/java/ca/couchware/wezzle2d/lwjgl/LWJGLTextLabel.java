@@ -7,7 +7,7 @@ package ca.couchware.wezzle2d.lwjgl;
 import ca.couchware.wezzle2d.graphics.AbstractEntity;
 import ca.couchware.wezzle2d.graphics.IPositionable.Alignment;
 import ca.couchware.wezzle2d.ui.ITextLabel;
-import ca.couchware.wezzle2d.util.NumUtil;
+import ca.couchware.wezzle2d.util.CouchColor;
 import java.awt.Color;
 import java.awt.Rectangle;
 import java.util.EnumSet;
@@ -39,11 +39,28 @@ public class LWJGLTextLabel extends AbstractEntity implements ITextLabel
      */
     private Color color;
 
+    /**
+     * The color of the label with the current opacity applied, packed as an 
+     * ARGB int.
+     */
+    private int packedColor;
+
+    /**
+     * The colour used to draw the drop shadow, packed as an ARGB int.
+     */
+    private int packedShadowColor;
+
     /**
      * The font. 
      */
     final private TrueTypeFont font;
 
+    /**
+     * The text laid out as quads.  It is rebuilt only when the text changes,
+     * and both the shadow and the text are drawn from it.
+     */
+    private TrueTypeFont.GlyphRun run;
+
     public LWJGLTextLabel(
             LWJGLWindow win,
             int x, int y,
@@ -71,8 +88,19 @@ public class LWJGLTextLabel extends AbstractEntity implements ITextLabel
         // Get the font.
         this.font = win.getFontStore().getFont(size, win.getTextureLoader());
 
+        // Lay out the text.
+        layoutText();
+    }
+
+    /**
+     * Rebuilds the glyph run and the dimensions and offsets that depend on it.
+     */
+    private void layoutText()
+    {
+        this.run = font.layoutString(text, run);
+
         // Set width and height based on the font.
-        this.width = font.stringWidth(text);
+        this.width = run.getWidth();
         this.height = font.getHeight();
 
         // Determine the offset.
@@ -88,6 +116,8 @@ public class LWJGLTextLabel extends AbstractEntity implements ITextLabel
     public void setColor(Color color)
     {
         this.color = color;
+        this.packedColor = CouchColor.withAlpha(color.getRGB(), 
+                CouchColor.scaleOpacity(opacity));
     }
 
     public int getSize()
@@ -102,15 +132,13 @@ public class LWJGLTextLabel extends AbstractEntity implements ITextLabel
 
     public void setText(String text)
     {
-        this.text = text;
-
-        // Set width and height based on the font.
-        this.width = font.stringWidth(text);
-        this.height = font.getHeight();
+        if (text.equals(this.text))
+        {
+            return;
+        }
 
-        // Determine the offset.
-        this.offsetX = determineLabelOffsetX(alignment);
-        this.offsetY = determineLabelOffsetY(alignment);
+        this.text = text;
+        layoutText();
     }
 
     public boolean isCached()
@@ -157,16 +185,13 @@ public class LWJGLTextLabel extends AbstractEntity implements ITextLabel
             throw new IllegalStateException("No Y alignment set!");
         }
     }
-    /** The black colour used to draw the drop shadow. */
-    private Color colorBlack;
-
     @Override
     public void setOpacity(int opacity)
     {
         super.setOpacity(opacity);
-        int alpha = NumUtil.scaleInt(0, 100, 0, 255, opacity);
-        this.colorBlack = new Color(0, 0, 0, alpha);
-        this.color = new Color(color.getRed(), color.getGreen(), color.getBlue(), alpha);
+        int alpha = CouchColor.scaleOpacity(opacity);
+        this.packedShadowColor = CouchColor.withAlpha(CouchColor.BLACK, alpha);
+        this.packedColor = CouchColor.withAlpha(color.getRGB(), alpha);
     }
 
     @Override
@@ -177,8 +202,8 @@ public class LWJGLTextLabel extends AbstractEntity implements ITextLabel
             return true;
         }
 
-        font.drawString(x + offsetX + 1, y + offsetY + 1, text, colorBlack);
-        font.drawString(x + offsetX, y + offsetY, text, color);
+        font.drawRun(run, x + offsetX + 1, y + offsetY + 1, packedShadowColor);
+        font.drawRun(run, x + offsetX, y + offsetY, packedColor);
         return true;
     }
     /** An empty rectangle for use with getDrawRect(). */
@@ -9,6 +9,7 @@ import ca.couchware.wezzle2d.IWindow;
 import ca.couchware.wezzle2d.IWindowCallback;
 import ca.couchware.wezzle2d.event.IKeyListener;
 import ca.couchware.wezzle2d.event.IMouseListener;
+import ca.couchware.wezzle2d.event.IMouseRegionListener;
 import ca.couchware.wezzle2d.event.KeyEvent;
 import ca.couchware.wezzle2d.event.KeyEvent.Arrow;
 import ca.couchware.wezzle2d.event.KeyEvent.Modifier;
@@ -577,10 +578,74 @@ public class LWJGLWindow implements IWindow
         return new ImmutablePosition(Mouse.getX(), height - Mouse.getY());
     }
 
+    //--------------------------------------------------------------------------
+    // Input Rings
+    //--------------------------------------------------------------------------
+
+    /** The number of records in each input ring. */
+    private static final int INPUT_RING_CAPACITY = 64;
+
+    /** The modifier state used for all mouse events. */
+    private static final EnumSet<MouseEvent.Modifier> NO_MOUSE_MODIFIERS =
+            EnumSet.noneOf(MouseEvent.Modifier.class);
+
+    /**
+     * A queued keyboard event.  Records are preallocated and reused.
+     */
+    private static class KeyRecord
+    {
+        boolean state;
+        char ch;
+        Modifier modifier;
+        Arrow arrow;
+    }
+
+    /**
+     * A queued mouse event.  Records are preallocated and reused.
+     */
+    private static class MouseRecord
+    {
+        MouseEvent.Type type;
+        Button button;
+        ImmutablePosition position;
+        int deltaWheel;
+    }
+
+    /** The key ring.  Drained from the LWJGL keyboard queue each frame. */
+    private final KeyRecord[] keyRing = new KeyRecord[INPUT_RING_CAPACITY];
+
+    /** The number of records in the key ring. */
+    private int keyRingSize = 0;
+
+    /** The mouse ring.  Drained from the LWJGL mouse queue each frame. */
+    private final MouseRecord[] mouseRing = new MouseRecord[INPUT_RING_CAPACITY];
+
+    /** The number of records in the mouse ring. */
+    private int mouseRingSize = 0;
+
+    /** The key event handed to listeners.  Reused for every dispatch. */
+    private KeyEvent keyEvent;
+
+    /** The mouse event handed to listeners.  Reused for every dispatch. */
+    private MouseEvent mouseEvent;
+
+    {
+        for (int i = 0; i < INPUT_RING_CAPACITY; i++)
+        {
+            keyRing[i] = new KeyRecord();
+            mouseRing[i] = new MouseRecord();
+        }
+    }
+
     //--------------------------------------------------------------------------
     // IKeyListener Methods
     //--------------------------------------------------------------------------
-    List<IKeyListener> keyListenerList = new ArrayList<IKeyListener>();
+
+    /** 
+     * The key listeners.  Copy-on-write, so that listeners may add or remove
+     * themselves while an event is being dispatched.
+     */
+    private IKeyListener[] keyListeners = new IKeyListener[0];
     
     public void addKeyListener(IKeyListener l)
     {
@@ -591,12 +656,15 @@ public class LWJGLWindow implements IWindow
             throw new NullPointerException();
         }
 
-        if (keyListenerList.contains(l))
+        if (indexOf(keyListeners, l) != -1)
         {
             throw new IllegalStateException("Listener already registered!");
         }
 
-        keyListenerList.add(l);
+        IKeyListener[] grown = new IKeyListener[keyListeners.length + 1];
+        System.arraycopy(keyListeners, 0, grown, 0, keyListeners.length);
+        grown[keyListeners.length] = l;
+        keyListeners = grown;
     }
     
     public void removeKeyListener(IKeyListener l)
@@ -609,96 +677,114 @@ public class LWJGLWindow implements IWindow
             throw new NullPointerException();
         }
 
-        if (!keyListenerList.contains(l))
+        int index = indexOf(keyListeners, l);
+        if (index == -1)
         {
             throw new IllegalStateException("Listener not registered!");
         }
 
-        keyListenerList.remove(l);
+        IKeyListener[] shrunk = new IKeyListener[keyListeners.length - 1];
+        System.arraycopy(keyListeners, 0, shrunk, 0, index);
+        System.arraycopy(keyListeners, index + 1, shrunk, index, shrunk.length - index);
+        keyListeners = shrunk;
+    }
+
+    /**
+     * Finds the index of the listener in the array, by identity.
+     *
+     * @return The index, or -1 if it is not in the array.
+     */
+    private static int indexOf(Object[] array, Object o)
+    {
+        for (int i = 0; i < array.length; i++)
+        {
+            if (array[i] == o) return i;
+        }
+
+        return -1;
     }
     
     public void updateKeyPresses()
     {
-        // Before we start, make a copy of the listener list in case
-        // one of the listeners modifies their listener status.
-        List<IKeyListener> list = new ArrayList<IKeyListener>(keyListenerList);
-
         // If non-empty, clear.
         if (this.keyPressSet.isEmpty() == false)
         {
             this.keyPressSet.clear();
         }
 
+        // Drain the LWJGL keyboard queue into the ring, dispatching whenever
+        // it fills up.
         while (org.lwjgl.input.Keyboard.next())
         {
-            boolean state = Keyboard.getEventKeyState();
+            if (keyRingSize == keyRing.length)
+                dispatchKeyRecords();
+
+            KeyRecord record = keyRing[keyRingSize++];
+            record.state = Keyboard.getEventKeyState();
             int i = Keyboard.getEventKey();
-            
 
-            Modifier modifier;
             switch (i)
             {
                 case Keyboard.KEY_LSHIFT:
-                    modifier = KeyEvent.Modifier.LEFT_SHIFT;
+                    record.modifier = KeyEvent.Modifier.LEFT_SHIFT;
                     break;
 
                 case Keyboard.KEY_LCONTROL:
-                    modifier = KeyEvent.Modifier.LEFT_CTRL;
+                    record.modifier = KeyEvent.Modifier.LEFT_CTRL;
                     break;
 
                 case Keyboard.KEY_LMETA:
-                    modifier = KeyEvent.Modifier.LEFT_META;
+                    record.modifier = KeyEvent.Modifier.LEFT_META;
                     break;
 
                 case Keyboard.KEY_LMENU:
-                    modifier = KeyEvent.Modifier.LEFT_ALT;
+                    record.modifier = KeyEvent.Modifier.LEFT_ALT;
                     break;
 
                 case Keyboard.KEY_RMENU:
-                    modifier = KeyEvent.Modifier.RIGHT_ALT;
+                    record.modifier = KeyEvent.Modifier.RIGHT_ALT;
                     break;
 
                 case Keyboard.KEY_RMETA:
-                    modifier = KeyEvent.Modifier.RIGHT_META;
+                    record.modifier = KeyEvent.Modifier.RIGHT_META;
                     break;
 
                 case Keyboard.KEY_APPS:
-                    modifier = KeyEvent.Modifier.APPLICATION;
+                    record.modifier = KeyEvent.Modifier.APPLICATION;
                     break;
 
                 case Keyboard.KEY_RCONTROL:
-                    modifier = KeyEvent.Modifier.RIGHT_CTRL;
+                    record.modifier = KeyEvent.Modifier.RIGHT_CTRL;
                     break;
 
                 case Keyboard.KEY_RSHIFT:
-                    modifier = KeyEvent.Modifier.RIGHT_SHIFT;
+                    record.modifier = KeyEvent.Modifier.RIGHT_SHIFT;
                     break;
 
                 default:
-                    modifier = KeyEvent.Modifier.NONE;
+                    record.modifier = KeyEvent.Modifier.NONE;
             }
 
-            Arrow arrow;
             switch (i)
             {
                 case Keyboard.KEY_UP:
-                    arrow = KeyEvent.Arrow.KEY_UP;
+                    record.arrow = KeyEvent.Arrow.KEY_UP;
                     break;
 
                 case Keyboard.KEY_DOWN:
-                    arrow = KeyEvent.Arrow.KEY_DOWN;
+                    record.arrow = KeyEvent.Arrow.KEY_DOWN;
                     break;
 
                 case Keyboard.KEY_LEFT:
-                    arrow = KeyEvent.Arrow.KEY_LEFT;
+                    record.arrow = KeyEvent.Arrow.KEY_LEFT;
                     break;
 
                 case Keyboard.KEY_RIGHT:
-                    arrow = KeyEvent.Arrow.KEY_RIGHT;
+                    record.arrow = KeyEvent.Arrow.KEY_RIGHT;
                     break;
 
                 default:
-                    arrow = KeyEvent.Arrow.NONE;
+                    record.arrow = KeyEvent.Arrow.NONE;
 
             }                
 
@@ -706,29 +792,51 @@ public class LWJGLWindow implements IWindow
             // of any character returned from getEventCharacter(). This is because
             // LWJGL is fucked. We had a 30 min convo about this and decided
             // to fuck the ctrl key. Alt is better.
-            char ch = Keyboard.getEventCharacter();
+            record.ch = Keyboard.getEventCharacter();
             
             //CouchLogger.get().recordMessage( this.getClass(), (int) ch + " " + Keyboard.getKeyName( i ) );
+        }
+
+        dispatchKeyRecords();
+    }
+
+    /**
+     * Fires the queued key records to the key listeners and empties the ring.
+     */
+    private void dispatchKeyRecords()
+    {
+        // Grab the current listeners in case one of them modifies 
+        // their listener status.
+        final IKeyListener[] listeners = keyListeners;
 
-            KeyEvent event = new KeyEvent(this, ch, this.modifiers, arrow);
+        if (keyEvent == null)
+            keyEvent = new KeyEvent(this, '\0', this.modifiers, Arrow.NONE);
+
+        for (int r = 0; r < keyRingSize; r++)
+        {
+            final KeyRecord record = keyRing[r];
+            keyEvent.set(record.ch, record.arrow);
 
-            for (IKeyListener listener : list)
+            // If it equals NUL, then it's actually a key up.
+            if (record.state)
             {
-                // If it equals NUL, then it's actually a key up.
-                if (state)
-                {
-                    modifiers.add(modifier);
-                    listener.keyPressed(event);
-                }
-                else
-                {
-                    modifiers.remove(modifier);
-                    listener.keyReleased(event);
-                }
+                modifiers.add(record.modifier);
+
+                for (IKeyListener listener : listeners)
+                    listener.keyPressed(keyEvent);
+            }
+            else
+            {
+                modifiers.remove(record.modifier);
+
+                for (IKeyListener listener : listeners)
+                    listener.keyReleased(keyEvent);
             }
 
-            this.keyPressSet.add(ch);
+            this.keyPressSet.add(record.ch);
         }
+
+        keyRingSize = 0;
     }
 
     /**
@@ -746,7 +854,22 @@ public class LWJGLWindow implements IWindow
     // IMouseListener Methods
     //--------------------------------------------------------------------------
 
-    List<IMouseListener> mouseListenerList = new ArrayList<IMouseListener>();
+    /** 
+     * The mouse listeners.  Copy-on-write, so that listeners may add or remove
+     * themselves while an event is being dispatched.
+     */
+    private IMouseListener[] mouseListeners = new IMouseListener[0];
+
+    /** 
+     * The listeners that only care about a region of the screen, indexed
+     * by their regions. 
+     */
+    private final HitTestIndex hitTestIndex = new HitTestIndex();
+
+    /** The region listeners the current mouse event is routed to. */
+    private final List<IMouseRegionListener> regionTargetList = 
+            new ArrayList<IMouseRegionListener>();
+
     private ImmutablePosition mousePosition = new ImmutablePosition(
             Mouse.getX(), height - Mouse.getY());
 
@@ -803,16 +926,43 @@ public class LWJGLWindow implements IWindow
         return Button.NONE;
     }
 
+    /**
+     * Queues a mouse record.  A move or drag directly following another of 
+     * the same kind replaces it, so a burst of movement becomes a single 
+     * event per frame.
+     */
+    private void queueMouseRecord(MouseEvent.Type type, Button button,
+            ImmutablePosition position, int deltaWheel)
+    {
+        if (mouseRingSize > 0
+                && (type == MouseEvent.Type.MOUSE_MOVED 
+                    || type == MouseEvent.Type.MOUSE_DRAGGED))
+        {
+            MouseRecord last = mouseRing[mouseRingSize - 1];
+
+            if (last.type == type && last.button == button)
+            {
+                last.position = position;
+                last.deltaWheel = deltaWheel;
+                return;
+            }
+        }
+
+        if (mouseRingSize == mouseRing.length)
+            dispatchMouseRecords();
+
+        MouseRecord record = mouseRing[mouseRingSize++];
+        record.type = type;
+        record.button = button;
+        record.position = position;
+        record.deltaWheel = deltaWheel;
+    }
+
     /**
      * Fires all the queued up mouse events.
      */    
     public void fireMouseEvents()
     {
-        // Before we start, make a copy of the listener list in case
-        // one of the listeners modifies their listener status.
-        List<IMouseListener> list =
-                new ArrayList<IMouseListener>(mouseListenerList);
-
         // Poll mouse events.
         while (Mouse.next())
         {
@@ -834,8 +984,7 @@ public class LWJGLWindow implements IWindow
             if (Mouse.getEventButton() != -1)
             {
                 int button = Mouse.getEventButton();
-                MouseEvent.Button buttonEnum = MouseEvent.Button.NONE;
-                buttonEnum = toButtonEnum(button);
+                MouseEvent.Button buttonEnum = toButtonEnum(button);
 
                 MouseEvent.Type type;
 
@@ -852,38 +1001,7 @@ public class LWJGLWindow implements IWindow
                     mouseStateMap.put(buttonEnum, false);
                 }
 
-                MouseEvent event = new MouseEvent(this,
-                                                  buttonEnum,
-                                                  EnumSet.noneOf(
-                        MouseEvent.Modifier.class),
-                                                  mousePosition,
-                                                  type,
-                                                  deltaWheel);
-
-                switch (type)
-                {
-                    case MOUSE_PRESSED:
-
-                        for (IMouseListener l : list)
-                        {
-                            l.mousePressed(event);
-                        }
-
-                        break;
-
-                    case MOUSE_RELEASED:
-
-                        for (IMouseListener l : list)
-                        {
-                            l.mouseReleased(event);
-                        }
-
-                        break;
-
-                    default:
-                        throw new AssertionError();
-                } // end switch                
-
+                queueMouseRecord(type, buttonEnum, mousePosition, deltaWheel);
             } // if
 
             if (mouseMoved)
@@ -891,53 +1009,115 @@ public class LWJGLWindow implements IWindow
                 Button buttonEnum = findPressedButton();
                 if (buttonEnum != Button.NONE)
                 {
-                    MouseEvent event = new MouseEvent(this,
-                                                      buttonEnum,
-                                                      EnumSet.noneOf(
-                            MouseEvent.Modifier.class),
-                                                      mousePosition,
-                                                      MouseEvent.Type.MOUSE_DRAGGED,
-                                                      deltaWheel);
-
-                    for (IMouseListener l : list)
-                    {
-                        l.mouseDragged(event);
-                    }
+                    queueMouseRecord(MouseEvent.Type.MOUSE_DRAGGED, 
+                            buttonEnum, mousePosition, deltaWheel);
                 }
                 else
                 {
-                    MouseEvent event = new MouseEvent(this,
-                                                      MouseEvent.Button.NONE,
-                                                      EnumSet.noneOf(
-                            MouseEvent.Modifier.class),
-                                                      mousePosition,
-                                                      MouseEvent.Type.MOUSE_MOVED,
-                                                      deltaWheel);
-
-                    for (IMouseListener l : list)
-                    {
-                        l.mouseMoved(event);
-                    }
+                    queueMouseRecord(MouseEvent.Type.MOUSE_MOVED, 
+                            MouseEvent.Button.NONE, mousePosition, deltaWheel);
                 }
             } // end if    
 
             if (deltaWheel != 0)
             {
-                MouseEvent event = new MouseEvent(this,
-                                                  MouseEvent.Button.NONE,
-                                                  EnumSet.noneOf(
-                        MouseEvent.Modifier.class),
-                                                  mousePosition,
-                                                  MouseEvent.Type.MOUSE_WHEEL,
-                                                  deltaWheel);
-
-                for (IMouseListener l : list)
-                {
-                    l.mouseWheel(event);
-                }
+                queueMouseRecord(MouseEvent.Type.MOUSE_WHEEL, 
+                        MouseEvent.Button.NONE, mousePosition, deltaWheel);
             }
 
         } // end while
+
+        dispatchMouseRecords();
+    }
+
+    /**
+     * Fires the queued mouse records to the mouse listeners and empties 
+     * the ring.
+     */
+    private void dispatchMouseRecords()
+    {
+        // Grab the current listeners in case one of them modifies 
+        // their listener status.
+        final IMouseListener[] listeners = mouseListeners;
+
+        if (mouseRingSize > 0)
+        {
+            hitTestIndex.validate();
+        }
+
+        for (int r = 0; r < mouseRingSize; r++)
+        {
+            final MouseRecord record = mouseRing[r];
+
+            if (mouseEvent == null)
+            {
+                mouseEvent = new MouseEvent(this, record.button, 
+                        NO_MOUSE_MODIFIERS, record.position, 
+                        record.type, record.deltaWheel);
+            }
+            else
+            {
+                mouseEvent.set(record.button, NO_MOUSE_MODIFIERS, 
+                        record.position, record.type, record.deltaWheel);
+            }
+
+            for (IMouseListener l : listeners)
+            {
+                fireMouseEvent(l, mouseEvent);
+            }
+
+            // Only route the event to the region listeners it concerns.
+            hitTestIndex.collect(record.type, 
+                    record.position.getX(), record.position.getY(), 
+                    regionTargetList);
+
+            for (int i = 0; i < regionTargetList.size(); i++)
+            {
+                fireMouseEvent(regionTargetList.get(i), mouseEvent);
+            }
+
+            regionTargetList.clear();
+
+            // Don't pin the position.
+            record.position = null;
+        }
+
+        mouseRingSize = 0;
+    }
+
+    /**
+     * Fires the mouse event to the listener method matching its type.
+     * 
+     * @param l The listener.
+     * @param event The event.
+     */
+    private static void fireMouseEvent(IMouseListener l, MouseEvent event)
+    {
+        switch (event.getType())
+        {
+            case MOUSE_PRESSED:
+                l.mousePressed(event);
+                break;
+
+            case MOUSE_RELEASED:
+                l.mouseReleased(event);
+                break;
+
+            case MOUSE_DRAGGED:
+                l.mouseDragged(event);
+                break;
+
+            case MOUSE_MOVED:
+                l.mouseMoved(event);
+                break;
+
+            case MOUSE_WHEEL:
+                l.mouseWheel(event);
+                break;
+
+            default:
+                throw new AssertionError();
+        } // end switch
     }
 
     /**
@@ -949,6 +1129,7 @@ public class LWJGLWindow implements IWindow
         // Empty the mouse events.
 
         while (Mouse.next());
+        mouseRingSize = 0;
 
         // Update the mouse state map.
         for (int i = 0; i < 3; i++)
@@ -964,12 +1145,28 @@ public class LWJGLWindow implements IWindow
             throw new NullPointerException();
         }
 
-        if (mouseListenerList.contains(l))
+        if (l instanceof IMouseRegionListener)
+        {
+            IMouseRegionListener rl = (IMouseRegionListener) l;
+
+            if (hitTestIndex.contains(rl))
+            {
+                throw new IllegalStateException("Listener already registered!");
+            }
+
+            hitTestIndex.add(rl);
+            return;
+        }
+
+        if (indexOf(mouseListeners, l) != -1)
         {
             throw new IllegalStateException("Listener already registered!");
         }
 
-        mouseListenerList.add(l);
+        IMouseListener[] grown = new IMouseListener[mouseListeners.length + 1];
+        System.arraycopy(mouseListeners, 0, grown, 0, mouseListeners.length);
+        grown[mouseListeners.length] = l;
+        mouseListeners = grown;
     }
     
     public void removeMouseListener(IMouseListener l)
@@ -979,12 +1176,29 @@ public class LWJGLWindow implements IWindow
             throw new NullPointerException();
         }
 
-        if (!mouseListenerList.contains(l))
+        if (l instanceof IMouseRegionListener)
+        {
+            IMouseRegionListener rl = (IMouseRegionListener) l;
+
+            if (!hitTestIndex.contains(rl))
+            {
+                throw new IllegalStateException("Listener not registered!");
+            }
+
+            hitTestIndex.remove(rl);
+            return;
+        }
+
+        int index = indexOf(mouseListeners, l);
+        if (index == -1)
         {
             throw new IllegalStateException("Listener not registered!");
         }
 
-        mouseListenerList.remove(l);
+        IMouseListener[] shrunk = new IMouseListener[mouseListeners.length - 1];
+        System.arraycopy(mouseListeners, 0, shrunk, 0, index);
+        System.arraycopy(mouseListeners, index + 1, shrunk, index, shrunk.length - index);
+        mouseListeners = shrunk;
     }
 
 }
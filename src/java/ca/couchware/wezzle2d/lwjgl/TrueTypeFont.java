@@ -27,6 +27,7 @@
  */
 package ca.couchware.wezzle2d.lwjgl;
 
+import ca.couchware.wezzle2d.util.CouchColor;
 import ca.couchware.wezzle2d.util.CouchLogger;
 import java.awt.Color;
 import java.awt.Font;
@@ -38,6 +39,8 @@ import java.awt.font.TextLayout;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.Serializable;
+import java.nio.FloatBuffer;
+import org.lwjgl.BufferUtils;
 import org.lwjgl.opengl.GL11;
 
 /**
@@ -125,6 +128,41 @@ public class TrueTypeFont implements Serializable
         public int space;
     }
 
+    /**
+     * A string that has been laid out as a run of textured quads relative to
+     * its baseline origin.  A run can be drawn any number of times, at any 
+     * position and in any color, without walking the string again.
+     */
+    public static class GlyphRun
+    {
+        /** The number of floats per vertex: s, t, x, y. */
+        private static final int FLOATS_PER_VERTEX = 4;
+        
+        /** The interleaved vertex data. */
+        private FloatBuffer buffer;
+        
+        /** The number of vertices in the run. */
+        private int vertexCount;
+        
+        /** The width of the run, as given by stringWidth(). */
+        private int width;
+        
+        public int getWidth()
+        {
+            return width;
+        }
+        
+        private void ensureCapacity(int vertices)
+        {
+            int floats = vertices * FLOATS_PER_VERTEX;
+            
+            if (buffer == null || buffer.capacity() < floats)
+                buffer = BufferUtils.createFloatBuffer(floats);
+            
+            buffer.clear();
+        }
+    }
+
     /**
      * Creates an OpenGL version of a TrueType font.
      * 
@@ -375,17 +413,109 @@ public class TrueTypeFont implements Serializable
         return new TextLayout(text, font, frctx);                     
     }   
 
+    /**
+     * Lays out a string as a glyph run.
+     * 
+     * @param str The string to lay out.
+     * @param run The run to reuse, or null to create a new one.
+     * @return The run.
+     */
+    public GlyphRun layoutString(String str, GlyphRun run)
+    {
+        if (run == null) run = new GlyphRun();
+        
+        run.ensureCapacity(str.length() * 4);
+        
+        CharacterInfo charInfo;
+        int currentChar;
+        int totalWidth = 0;
+        int vertexCount = 0;
+        
+        if (str.length() > 0)
+            totalWidth = -charArray[str.charAt(0)].space;
+        
+        for (int i = 0; i < str.length(); i++)
+        {
+            currentChar = str.charAt(i);
+            if (currentChar < 256)
+            {
+                charInfo = charArray[currentChar];
+                
+                float x1 = totalWidth;
+                float y1 = -charInfo.ascent;
+                float x2 = x1 + charInfo.width;
+                float y2 = y1 + charInfo.height;
+                float s1 = charInfo.x / FlFontTextureWidth;
+                float t1 = charInfo.y / FlFontTextureHeight;
+                float s2 = (charInfo.x + charInfo.width) / FlFontTextureWidth;
+                float t2 = (charInfo.y + charInfo.height) / FlFontTextureHeight;
+                
+                run.buffer.put(s1).put(t1).put(x1).put(y1);
+                run.buffer.put(s1).put(t2).put(x1).put(y2);
+                run.buffer.put(s2).put(t2).put(x2).put(y2);
+                run.buffer.put(s2).put(t1).put(x2).put(y1);
+                vertexCount += 4;
+                
+                totalWidth += charInfo.lineWidth;
+            } // end if
+        } // end for
+        
+        run.buffer.flip();
+        run.vertexCount = vertexCount;
+        run.width = totalWidth;
+        
+        return run;
+    }
+    
+    /**
+     * Draws a glyph run laid out by this font.
+     * 
+     * @param run The run to draw.
+     * @param x The x position of the run's origin.
+     * @param y The y position of the run's origin.
+     * @param color The color to draw the run, packed as an ARGB int.
+     */
+    public void drawRun(GlyphRun run, float x, float y, int color)
+    {
+        if (run.vertexCount == 0)
+            return;
+        
+        // Set the color.
+        CouchColor.bind(color);
+        
+        // Bind the texture.
+        fontTexture.bind();
+        
+        GL11.glPushMatrix();
+        GL11.glTranslatef(x, y, 0);
+        
+        GL11.glEnableClientState(GL11.GL_TEXTURE_COORD_ARRAY);
+        GL11.glEnableClientState(GL11.GL_VERTEX_ARRAY);
+        
+        final int stride = GlyphRun.FLOATS_PER_VERTEX * 4;
+        
+        run.buffer.position(0);
+        GL11.glTexCoordPointer(2, stride, run.buffer);
+        run.buffer.position(2);
+        GL11.glVertexPointer(2, stride, run.buffer);
+        run.buffer.position(0);
+        
+        GL11.glDrawArrays(GL11.GL_QUADS, 0, run.vertexCount);
+        
+        GL11.glDisableClientState(GL11.GL_VERTEX_ARRAY);
+        GL11.glDisableClientState(GL11.GL_TEXTURE_COORD_ARRAY);
+        
+        GL11.glPopMatrix();
+    }
+
     /**
      * ...
      */
     public void drawString(float x, float y, String str,
-            Color color, int startIndex, int endIndex)
+            int color, int startIndex, int endIndex)
     {
         // Set the color.
-        GL11.glColor4f((float) color.getRed() / 255f,
-                       (float) color.getGreen() / 255f,
-                       (float) color.getBlue() / 255f,
-                       (float) color.getAlpha() / 255f);
+        CouchColor.bind(color);
         
         // Bind the texture.
         fontTexture.bind();
@@ -441,7 +571,7 @@ public class TrueTypeFont implements Serializable
      */
     public void drawString(float x, float y, String str, Color color)
     {
-        drawString(x, y, str, color, 0, str.length() - 1);
+        drawString(x, y, str, color.getRGB(), 0, str.length() - 1);
     }
 
     /**
@@ -456,6 +586,6 @@ public class TrueTypeFont implements Serializable
      */
     public void drawString(float x, float y, String str)
     {
-        drawString(x, y, str, Color.WHITE);
+        drawString(x, y, str, CouchColor.WHITE, 0, str.length() - 1);
     }
 }
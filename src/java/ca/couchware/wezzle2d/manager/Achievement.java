@@ -8,9 +8,9 @@ import ca.couchware.wezzle2d.Game;
 import ca.couchware.wezzle2d.ManagerHub;
 import ca.couchware.wezzle2d.Rule;
 import ca.couchware.wezzle2d.manager.Settings.Key;
-import ca.couchware.wezzle2d.tile.Tile;
 import ca.couchware.wezzle2d.tile.TileHelper;
 import ca.couchware.wezzle2d.tile.TileType;
+import ca.couchware.wezzle2d.tracker.Chain;
 import ca.couchware.wezzle2d.util.IXMLizable;
 import ca.couchware.wezzle2d.util.Node;
 import ca.couchware.wezzle2d.util.StringUtil;
@@ -18,6 +18,7 @@ import ca.couchware.wezzle2d.util.CouchDate;
 import java.awt.Color;
 import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -463,7 +464,7 @@ public class Achievement implements IXMLizable
         return true;
     }
 
-    public boolean evaluateCollision(Node<Tile> tileTree, GameDifficulty difficulty)
+    public boolean evaluateCollision(Chain chain, GameDifficulty difficulty)
     {
         // Use the private helper method to test if all of the fields
         // meet the requirements. any null values are automatically
@@ -477,7 +478,7 @@ public class Achievement implements IXMLizable
 
         for (Rule rule : ruleList)
         {
-            if (!rule.evaluateCollision(tileTree))
+            if (!rule.evaluateCollision(chain))
             {
                 return false;
             }
@@ -545,6 +546,22 @@ public class Achievement implements IXMLizable
         return difficulty;
     }
 
+    /**
+     * Get the types of the rules of the achievement.
+     * @return The set of rule types.
+     */
+    public Set<Rule.Type> getRuleTypeSet()
+    {
+        Set<Rule.Type> typeSet = EnumSet.noneOf(Rule.Type.class);
+
+        for (Rule rule : ruleList)
+        {
+            typeSet.add(rule.getType());
+        }
+
+        return typeSet;
+    }
+
     /**
      * Get the date completed.
      * @return the date.
@@ -8,14 +8,21 @@ package ca.couchware.wezzle2d.manager;
 import ca.couchware.wezzle2d.Game;
 import ca.couchware.wezzle2d.util.CouchLogger;
 import ca.couchware.wezzle2d.ManagerHub;
+import ca.couchware.wezzle2d.Rule;
 import ca.couchware.wezzle2d.difficulty.GameDifficulty;
 import ca.couchware.wezzle2d.event.CollisionEvent;
+import ca.couchware.wezzle2d.event.GameEvent;
 import ca.couchware.wezzle2d.event.ICollisionListener;
+import ca.couchware.wezzle2d.event.IGameListener;
 import ca.couchware.wezzle2d.manager.Settings.Key;
 import ca.couchware.wezzle2d.util.CouchDate;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * A class to manage achievements.
@@ -28,11 +35,24 @@ import java.util.List;
  * if the achievement has been achieved, the achievement is moved from the
  * arraylist into the achieved array list and displayed to the screen.
  *
+ * The incomplete achievements are indexed by the types of their rules, and
+ * an evaluation only checks the achievements whose rule types have had
+ * their inputs change since the last evaluation.
+ *
  * @author Kevin
  */
-public class AchievementManager implements ICollisionListener
+public class AchievementManager implements ICollisionListener, IGameListener
 {
 
+    /** The rule types that are evaluated against the game state. */
+    final private static Set<Rule.Type> STATE_TYPE_SET = EnumSet.of(
+            Rule.Type.SCORE,
+            Rule.Type.LEVEL,
+            Rule.Type.MOVES,
+            Rule.Type.LINES,
+            Rule.Type.START_LEVEL,
+            Rule.Type.RATE);
+
     /** The settings manager. */
     final private SettingsManager settingsMan;
     
@@ -50,6 +70,18 @@ public class AchievementManager implements ICollisionListener
      * they are asked for by <pre>getNewlyCompletedAchievements()</pre>.
      */
     private List<Achievement> newlyCompletedList;
+
+    /**
+     * The incomplete achievements that can be completed, by rule type.
+     * Achievements made of state rules are listed under each of their
+     * types, and collision and meta achievements under COLLISION and META.
+     */
+    final private Map<Rule.Type, List<Achievement>> ruleTypeMap =
+            new EnumMap<Rule.Type, List<Achievement>>(Rule.Type.class);
+
+    /** The input of each state rule type at the last evaluation. */
+    final private Map<Rule.Type, Integer> lastInputMap =
+            new EnumMap<Rule.Type, Integer>(Rule.Type.class);
     
     /** The master list */
     //private List<Achievement> masterList;
@@ -64,6 +96,11 @@ public class AchievementManager implements ICollisionListener
         this.incompletedList    = new ArrayList<Achievement>();
         this.completedList      = new ArrayList<Achievement>();
         this.newlyCompletedList = new ArrayList<Achievement>();        
+
+        for (Rule.Type type : Rule.Type.values())
+        {
+            this.ruleTypeMap.put(type, new ArrayList<Achievement>());
+        }
         
         // This effectively shuts off achievements as none are loaded.
         if (!Game.isApplet())
@@ -108,6 +145,7 @@ public class AchievementManager implements ICollisionListener
             if (!storedCompletedList.contains(ach))
             {
                 this.incompletedList.add(ach);
+                addToIndex(ach);
             }                            
         }        
         
@@ -118,6 +156,47 @@ public class AchievementManager implements ICollisionListener
         }
     }          
     
+    /**
+     * Add an incomplete achievement to the rule type index.  Achievements
+     * that mix state rules with collision or meta rules can never be
+     * completed, so they are left out.
+     *
+     * @param achievement
+     */
+    private void addToIndex(Achievement achievement)
+    {
+        Set<Rule.Type> typeSet = achievement.getRuleTypeSet();
+
+        if (typeSet.equals(EnumSet.of(Rule.Type.COLLISION)))
+        {
+            ruleTypeMap.get(Rule.Type.COLLISION).add(achievement);
+        }
+        else if (typeSet.equals(EnumSet.of(Rule.Type.META)))
+        {
+            ruleTypeMap.get(Rule.Type.META).add(achievement);
+        }
+        else if (STATE_TYPE_SET.containsAll(typeSet))
+        {
+            for (Rule.Type type : typeSet)
+            {
+                ruleTypeMap.get(type).add(achievement);
+            }
+        }
+    }
+
+    /**
+     * Remove a completed achievement from the rule type index.
+     *
+     * @param achievement
+     */
+    private void removeFromIndex(Achievement achievement)
+    {
+        for (Rule.Type type : achievement.getRuleTypeSet())
+        {
+            ruleTypeMap.get(type).remove(achievement);
+        }
+    }
+
     /**
      * Export the achievements to the settings manager.
      */
@@ -168,6 +247,10 @@ public class AchievementManager implements ICollisionListener
     
     private void completeAchievement(Achievement achievement)
     {
+        // Take it out of the incomplete list and index.
+        this.incompletedList.remove(achievement);
+        removeFromIndex(achievement);
+
         // Set the date.
         Achievement completedAchievement = 
             Achievement.newInstance(achievement, CouchDate.newInstance());
@@ -179,7 +262,8 @@ public class AchievementManager implements ICollisionListener
     }
     
     /**
-     * Evaluate each achievement. 
+     * Evaluate the achievements whose rule inputs have changed since the
+     * last evaluation.
      * If the achievement is completed transfer from the incomplete to 
      * the completed lists.
      * 
@@ -191,34 +275,38 @@ public class AchievementManager implements ICollisionListener
         if(true == hub.tutorialMan.isTutorialRunning())
             return false;
 
+        // Find the achievements that depend on an input that changed.
+        Set<Achievement> checkedSet = new HashSet<Achievement>();
+        List<Achievement> achievedList = new ArrayList<Achievement>();
 
-        boolean achieved = false;
-        
-        for (Iterator<Achievement> it = incompletedList.iterator(); it.hasNext(); )
+        for (Rule.Type type : STATE_TYPE_SET)
         {
-            Achievement achievement = it.next();
-            
-            if (achievement.evaluate(game, hub))
+            final Integer input = Rule.getInput(type, game, hub);
+
+            if (input.equals(lastInputMap.put(type, input)))
+                continue;
+
+            for (Achievement achievement : ruleTypeMap.get(type))
             {
-                completeAchievement(achievement);
-                it.remove();
-                achieved = true;
+                if (checkedSet.add(achievement)
+                        && achievement.evaluate(game, hub))
+                {
+                    achievedList.add(achievement);
+                }
             }
         }
 
+        for (Achievement achievement : achievedList)
+        {
+            completeAchievement(achievement);
+        }
+
+        boolean achieved = !achievedList.isEmpty();
+
         // If we have achieved something, check meta achievements.
         if (achieved == true)
         {
-            for (Iterator<Achievement> itr = incompletedList.iterator(); itr.hasNext(); )
-            {
-                Achievement ach = itr.next();
-
-                if (ach.evaluateMeta(this, game.getDifficulty()))
-                {
-                    completeAchievement(ach);
-                    itr.remove();
-                }
-            } // end for
+            evaluateMeta(game.getDifficulty());
         }
         
         // Export.
@@ -229,6 +317,28 @@ public class AchievementManager implements ICollisionListener
 
         return achieved;
     }
+
+    /**
+     * Evaluate the meta achievements.  Only needed after another achievement
+     * has been completed.
+     *
+     * @param difficulty
+     */
+    private void evaluateMeta(GameDifficulty difficulty)
+    {
+        // Iterate over a copy, since completing an achievement removes it
+        // from the index.  Each one sees the ones completed before it.
+        List<Achievement> metaList =
+                new ArrayList<Achievement>(ruleTypeMap.get(Rule.Type.META));
+
+        for (Achievement ach : metaList)
+        {
+            if (ach.evaluateMeta(this, difficulty))
+            {
+                completeAchievement(ach);
+            }
+        } // end for
+    }
     
     /**
      * Listens for collision events.
@@ -242,40 +352,57 @@ public class AchievementManager implements ICollisionListener
         
         //CouchLogger.get().recordMessage(this.getClass(), e.getChain().getTree().toString());
         
-        // Set to true if an achievement was achieved.
-        boolean achieved = false;
+        List<Achievement> achievedList = new ArrayList<Achievement>();
         
-        for (Iterator<Achievement> it = incompletedList.iterator(); it.hasNext(); )
+        for (Achievement achievement : ruleTypeMap.get(Rule.Type.COLLISION))
         {
-            Achievement achievement = it.next();
-
-            if (achievement.evaluateCollision(e.getChain().getTree(), difficulty))
+            if (achievement.evaluateCollision(e.getChain(), difficulty))
             {
-                completeAchievement(achievement);
-                it.remove();
-                achieved = true;
+                achievedList.add(achievement);
             }
         } // end for
 
-         // If we have achieved something, check meta achievements.
-        if (achieved)
+        for (Achievement achievement : achievedList)
         {
-            for (Iterator<Achievement> itr = incompletedList.iterator(); itr.hasNext(); )
-            {
-                Achievement ach = itr.next();
+            completeAchievement(achievement);
+        }
 
-                if (ach.evaluateMeta(this, difficulty))
-                {
-                    completeAchievement(ach);
-                    itr.remove();
-                }
-            } // end for
+        // Set to true if an achievement was achieved.
+        boolean achieved = !achievedList.isEmpty();
 
+         // If we have achieved something, check meta achievements.
+        if (achieved)
+        {
+            evaluateMeta(difficulty);
         }
         
         // Export if achieved.
         if (achieved) exportAchievements();
-    }               
+    }
+
+    /**
+     * Forget the inputs seen by the last evaluation, so the next evaluation
+     * checks every state achievement.
+     */
+    private void forgetInputs()
+    {
+        lastInputMap.clear();
+    }
+
+    public void gameStarted(GameEvent event)
+    {
+        forgetInputs();
+    }
+
+    public void gameReset(GameEvent event)
+    {
+        forgetInputs();
+    }
+
+    public void gameOver(GameEvent event)
+    {
+        forgetInputs();
+    }
     
     /**
      * Get the list of all achievements.
@@ -16,6 +16,7 @@ import ca.couchware.wezzle2d.tile.StarTile;
 import ca.couchware.wezzle2d.tile.Tile;
 import ca.couchware.wezzle2d.tile.TileColor;
 import ca.couchware.wezzle2d.tile.TileHelper;
+import ca.couchware.wezzle2d.tile.TilePool;
 import ca.couchware.wezzle2d.tile.TileType;
 import ca.couchware.wezzle2d.tracker.TileEffect;
 import ca.couchware.wezzle2d.util.CouchLogger;
@@ -237,6 +238,18 @@ public class BoardManager implements IResettable, ISaveable, IKeyListener
      */
     private Tile[] scratchBoard;
 
+    /**
+     * The tiles removed from the board that have not been returned to the
+     * tile pool yet.
+     */
+    final private List<Tile> removedTileList = new ArrayList<Tile>();
+
+    /**
+     * The tiles in the saved board state.  They are put back on the board
+     * when the state is loaded, so they are never returned to the pool.
+     */
+    final private Set<Tile> savedTileSet = new HashSet<Tile>();
+
     //--------------------------------------------------------------------------
     // Constructor
     //--------------------------------------------------------------------------
@@ -341,6 +354,15 @@ public class BoardManager implements IResettable, ISaveable, IKeyListener
         managerState.put( Keys.BOARD, board.clone() );
         managerState.put( Keys.SCRATCH_BOARD, scratchBoard.clone() );
 
+        savedTileSet.clear();
+        for ( Tile t : board )
+        {
+            if ( t != null )
+            {
+                savedTileSet.add( t );
+            }
+        }
+
         CouchLogger.get().recordMessage( this.getClass(), "Saved " + numberOfTiles + " tiles" );
         CouchLogger.get().recordMessage( this.getClass(), "Saved " + numberOfItems + " items" );
         CouchLogger.get().recordMessage( this.getClass(), "Saved " + numberOfMultipliers + " multipliers" );
@@ -363,6 +385,10 @@ public class BoardManager implements IResettable, ISaveable, IKeyListener
         scratchBoard = (Tile[]) managerState.get( Keys.SCRATCH_BOARD );
         board = (Tile[]) managerState.get( Keys.BOARD );
 
+        // The saved tiles are back on the board, so they must not be pooled.
+        removedTileList.removeAll( savedTileSet );
+        savedTileSet.clear();
+
         // Make sure that this board is in the layer manager.
         layerize();
 
@@ -1459,6 +1485,9 @@ public class BoardManager implements IResettable, ISaveable, IKeyListener
         // Remove the animation.        
         animationMan.remove( t.getAnimation() );
 
+        // Hold on to the tile until it can be returned to the pool.
+        removedTileList.add( t );
+
         // Decrement tile counter.
         numberOfTiles--;
 
@@ -1466,6 +1495,25 @@ public class BoardManager implements IResettable, ISaveable, IKeyListener
         setDirty( true );
     }
 
+    /**
+     * Returns the tiles removed from the board since the last call to the 
+     * tile pool.  The chains of the move being tracked still reference the
+     * tiles it removed, so this must only be called once the tracker has
+     * finished the move.
+     */
+    public void releaseRemovedTiles()
+    {
+        for ( Tile t : removedTileList )
+        {
+            if ( !savedTileSet.contains( t ) )
+            {
+                TilePool.get().release( t );
+            }
+        }
+
+        removedTileList.clear();
+    }
+
     public void removeTile(final int column, final int row)
     {
         // Sanity check.
@@ -1978,7 +2026,8 @@ public class BoardManager implements IResettable, ISaveable, IKeyListener
             if ( tile != null )
             {
                 // Make a copy and hide the original.                
-                final Tile t = new Tile( tile );
+                final Tile t = TileHelper.makeTile( TileType.NORMAL,
+                        tile.getColor(), tile.getX(), tile.getY() );
                 tile.setVisible( false );
                 layerMan.add( t, Layer.TILE );
 
@@ -1993,6 +2042,7 @@ public class BoardManager implements IResettable, ISaveable, IKeyListener
                 a1 = new FadeAnimation.Builder( FadeAnimation.Type.IN, t ).wait( fadeWait ).
                         duration( fadeDuration ).build();
 
+                final IAnimation fade = a1;
                 a1.addAnimationListener( new AnimationAdapter()
                 {
                     @Override
@@ -2000,6 +2050,7 @@ public class BoardManager implements IResettable, ISaveable, IKeyListener
                     {
                         layerMan.remove( t, Layer.TILE );
                         tile.setVisible( true );
+                        releaseCopy( t, fade );
                     }
 
                 } );
@@ -2032,6 +2083,15 @@ public class BoardManager implements IResettable, ISaveable, IKeyListener
 
                 a2 = new MoveAnimation.Builder( t ).minX( minX ).maxX( maxX ).
                         wait( moveWait ).theta( theta ).speed( moveSpeed ).build();
+                a2.addAnimationListener( new AnimationAdapter()
+                {
+                    @Override
+                    public void animationFinished()
+                    {
+                        releaseCopy( t, fade );
+                    }
+
+                } );
 
                 // Add them to the animation manager.
                 t.setAnimation( a1 );
@@ -2052,6 +2112,27 @@ public class BoardManager implements IResettable, ISaveable, IKeyListener
         }
     }
 
+    /**
+     * Returns a tile copy used by the show and hide animations to the tile 
+     * pool.  The copy is shared by a fade and a move animation, so it is only
+     * released once the second of the two has finished.
+     *
+     * @param t The tile copy.
+     * @param fade The fade animation attached to the copy.
+     */
+    private void releaseCopy(Tile t, IAnimation fade)
+    {
+        if ( t.getAnimation() == fade )
+        {
+            // First animation done, mark the copy so the second releases it.
+            t.setAnimation( null );
+        }
+        else
+        {
+            TilePool.get().release( t );
+        }
+    }
+
     /**
      * Animates the hiding of the board.
      *      
@@ -2166,7 +2247,8 @@ public class BoardManager implements IResettable, ISaveable, IKeyListener
             if ( tile != null )
             {
                 // Make a copy and hide the original.                
-                final Tile t = new Tile( tile );
+                final Tile t = TileHelper.makeTile( TileType.NORMAL,
+                        tile.getColor(), tile.getX(), tile.getY() );
                 tile.setVisible( false );
                 layerMan.add( t, Layer.TILE );
 
@@ -2189,12 +2271,24 @@ public class BoardManager implements IResettable, ISaveable, IKeyListener
                 a2 = new MoveAnimation.Builder( t ).wait( moveWait ).duration( moveDuration ).
                         theta( 180 * (row % 2) ).speed( moveSpeed ).build();
 
+                final IAnimation fade = a1;
                 a1.addAnimationListener( new AnimationAdapter()
                 {
                     @Override
                     public void animationFinished()
                     {
                         layerMan.remove( t, Layer.TILE );
+                        releaseCopy( t, fade );
+                    }
+
+                } );
+
+                a2.addAnimationListener( new AnimationAdapter()
+                {
+                    @Override
+                    public void animationFinished()
+                    {
+                        releaseCopy( t, fade );
                     }
 
                 } );
@@ -10,6 +10,7 @@ import ca.couchware.wezzle2d.Game;
 import ca.couchware.wezzle2d.ManagerHub;
 import ca.couchware.wezzle2d.ui.IButton;
 import ca.couchware.wezzle2d.group.IGroup;
+import ca.couchware.wezzle2d.group.LazyGroup;
 import ca.couchware.wezzle2d.manager.Settings.Key;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -48,6 +49,12 @@ public class GroupManager implements IResettable
      */
     private List<IGroup> groupList;
     
+    /**
+     * The groups that are built on demand.  These are disposed of once they
+     * have been hidden for long enough.
+     */
+    private List<LazyGroup<?>> lazyGroupList;
+    
     /** 
      * The list of groups currently being shown.
      */
@@ -70,6 +77,7 @@ public class GroupManager implements IResettable
     private GroupManager(Game game, ManagerHub hub)
     {
         groupList = new ArrayList<IGroup>();
+        lazyGroupList = new ArrayList<LazyGroup<?>>();
         entryList = new LinkedList<Entry>();        
         
         this.game = game;
@@ -301,6 +309,28 @@ public class GroupManager implements IResettable
         groupList.add(group);
     }
     
+    /**
+     * Unregisters a group that was registered with register().
+     * @param group The group to unregister.
+     */
+    public void unregister(IGroup group)
+    {
+        groupList.remove(group);
+    }
+    
+    /**
+     * Registers a group that is built on demand.  The group manager will
+     * dispose of the group when it has been hidden for longer than the idle
+     * delay.  The lazy group is responsible for registering the group itself
+     * when it is created.
+     * 
+     * @param lazyGroup The lazy group to register.
+     */
+    public void register(LazyGroup<?> lazyGroup)
+    {
+        lazyGroupList.add(lazyGroup);
+    }
+    
     /**
      * Update the logic of all groups if they have detected clicks.
      * @param game The game state.
@@ -312,6 +342,34 @@ public class GroupManager implements IResettable
             if (group.isActivated())            
                 group.updateLogic(game, hub);            
         }
+        
+        // Dispose of any on-demand groups that have been idle long enough.
+        final int idleDelay = hub.settingsMan.getInt(Key.GROUP_IDLE_DISPOSE_DELAY);
+        
+        for (LazyGroup<?> lazyGroup : lazyGroupList)
+        {
+            lazyGroup.tick(isShowing(lazyGroup.peek()), idleDelay);
+        }
+    }
+    
+    /**
+     * Checks whether a group has an entry in the list of shown groups.
+     * 
+     * @param group The group.
+     * @return True if the group is being shown (or is under a shown group).
+     */
+    private boolean isShowing(IGroup group)
+    {
+        if (group == null)
+            return false;
+        
+        for (Entry e : entryList)
+        {
+            if (e.getGroup() == group)
+                return true;
+        }
+        
+        return false;
     }
     
     public boolean isActivated()
@@ -12,8 +12,11 @@ import ca.couchware.wezzle2d.graphics.IEntity;
 import java.awt.Rectangle;
 import java.awt.Shape;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * A class for managaing layer draw order.  Layer 0 is the bottom (lowest)
@@ -48,7 +51,7 @@ public class LayerManager implements IDisposable, IDrawer
     /**
      * The list of all layers.
      */
-    private ArrayList<ArrayList<IDrawable>> layerList;
+    private ArrayList<DrawableList> layerList;
     
     /**
      * The list of hidden layers.
@@ -67,7 +70,7 @@ public class LayerManager implements IDisposable, IDrawer
         this.graphics = win.getGraphics();
         
         // Initialize layer arraylist.
-        layerList = new ArrayList<ArrayList<IDrawable>>(Layer.values().length);
+        layerList = new ArrayList<DrawableList>(Layer.values().length);
         
         // Initialize hidden layer map.
         hidden = new boolean[Layer.values().length];
@@ -75,7 +78,7 @@ public class LayerManager implements IDisposable, IDrawer
         // Create layers.
         for (int i = 0; i < Layer.values().length; i++)
         {
-            layerList.add(new ArrayList<IDrawable>());
+            layerList.add(new DrawableList());
             hidden[i] = false;
         }                      
     }
@@ -108,7 +111,11 @@ public class LayerManager implements IDisposable, IDrawer
             ((IEntity) drawable).setDisabled(true);
         
         // Add the element to the layer.
-        layerList.get(layer.ordinal()).add(drawable);        
+        if (!layerList.get(layer.ordinal()).add(drawable))
+        {
+            CouchLogger.get().recordWarning(this.getClass(), 
+                    "Drawable already in layer " + layer + ", ignored");
+        }
     }
     
     /**
@@ -124,20 +131,8 @@ public class LayerManager implements IDisposable, IDrawer
         if (layer == null)
             throw new NullPointerException("Layer does not exist!");
         
-        // Get the layer.
-        final ArrayList<IDrawable> list = layerList.get(layer.ordinal());
-        
-        // Get the index.
-        int index = list.indexOf(drawable);
-        
-        // If the index is -1, the element is not in this layer.
-        if (index != -1)
-        {
-//            Rectangle r = list.get(index).getDrawRect();
-//            if (r != null) addRemoveRect(r);
-            list.remove(index);            
-        }
-        else        
+        // If the remove fails, the element is not in this layer.
+        if (!layerList.get(layer.ordinal()).remove(drawable))
         {
             throw new RuntimeException("Tried to remove non-exist element!");            
         }
@@ -149,30 +144,7 @@ public class LayerManager implements IDisposable, IDrawer
      */
     public void c(final IDrawable drawable, Layer layer)
     {
-        // The drawable cannot be null.
-        if (drawable == null)
-            throw new NullPointerException("Drawable does not exist!");
-
-        if (layer == null)
-            throw new NullPointerException("Layer does not exist!");
-
-        // Get the layer.
-        final ArrayList<IDrawable> list = layerList.get(layer.ordinal());
-
-        // Get the index.
-        int index = list.indexOf(drawable);
-
-        // If the index is -1, the element is not in this layer.
-        if (index != -1)
-        {
-//            Rectangle r = list.get(index).getDrawRect();
-//            if (r != null) addRemoveRect(r);
-            list.remove(index);
-        }
-        else
-        {
-            throw new RuntimeException("Tried to remove non-exist element!");
-        }
+        remove(drawable, layer);
     }
     
     /**
@@ -183,7 +155,7 @@ public class LayerManager implements IDisposable, IDrawer
      */
     public List<IDrawable> getLayer(Layer layer)
     {
-        return Collections.unmodifiableList(layerList.get(layer.ordinal()));
+        return Collections.unmodifiableList(layerList.get(layer.ordinal()).toList());
     }
     
     /**
@@ -206,14 +178,28 @@ public class LayerManager implements IDisposable, IDrawer
         if (drawable == null)
             throw new NullPointerException("Drawable does not exist!");
         
-        // Get the layer.
-        final ArrayList<IDrawable> list = layerList.get(layer.ordinal());
+        return layerList.get(layer.ordinal()).contains(drawable);
+    }
+    
+    /**
+     * Checks whether the drawable is in any layer.
+     * 
+     * @param drawable
+     * @return True if the drawable is in a layer, false otherwise.
+     */
+    public boolean exists(final IDrawable drawable)
+    {
+        // The drawable cannot be null.
+        if (drawable == null)
+            throw new NullPointerException("Drawable does not exist!");
         
-        // Get the index.
-        int index = list.indexOf(drawable);
+        for (DrawableList list : layerList)
+        {
+            if (list.contains(drawable)) 
+                return true;
+        }
         
-        // If it's -1, it doesn't exist.
-        return (index != -1);
+        return false;
     }
     
     public void show(Layer layer)
@@ -227,10 +213,13 @@ public class LayerManager implements IDisposable, IDrawer
         hidden[layer.ordinal()] = false;
         
         // Grab the layer.
-        final ArrayList<IDrawable> list = layerList.get(layer.ordinal());
+        final DrawableList list = layerList.get(layer.ordinal());
         
-        for (IDrawable d : list)
+        for (int i = 0; i < list.end; i++)
         {
+            final IDrawable d = list.slots[i];
+            if (d == null) continue;
+            
             d.setDirty(true);
             if (d instanceof IEntity) ((IEntity) d).setDisabled( false );
         }
@@ -247,10 +236,13 @@ public class LayerManager implements IDisposable, IDrawer
         hidden[layer.ordinal()] = true;
         
         // Grab the layer.
-        final ArrayList<IDrawable> list = layerList.get(layer.ordinal());
+        final DrawableList list = layerList.get(layer.ordinal());
         
-        for (IDrawable d : list)
+        for (int i = 0; i < list.end; i++)
         {
+            final IDrawable d = list.slots[i];
+            if (d == null) continue;
+            
             d.setDirty(true);
             if (d instanceof IEntity) ((IEntity) d).setDisabled( true );
         }
@@ -271,7 +263,7 @@ public class LayerManager implements IDisposable, IDrawer
             throw new RuntimeException("Layer does not exist!");
         
         remove(d, layer);
-        layerList.get(layer.ordinal()).add(0, d);
+        layerList.get(layer.ordinal()).addFirst(d);
     }
     
     /**
@@ -288,12 +280,16 @@ public class LayerManager implements IDisposable, IDrawer
                 continue;
             
             // Grab this layer.
-            final List<IDrawable> layer = layerList.get(i);
+            final DrawableList layer = layerList.get(i);
+            
+            // Draw its contents, skipping removed slots.
+            final IDrawable[] slots = layer.slots;
+            final int end = layer.end;
             
-            // Draw its contents.
-            for (IDrawable d : layer)
+            for (int j = 0; j < end; j++)
             {             
-                d.draw();               
+                final IDrawable d = slots[j];
+                if (d != null) d.draw();               
             }           
         } // end for                
     }
@@ -339,7 +335,7 @@ public class LayerManager implements IDisposable, IDrawer
         
         // Print out the number of drawables on each layer.
         int i = 0;
-        for (List<IDrawable> layer : layerList)
+        for (DrawableList layer : layerList)
         {            
             buffer.append("Layer " + i + ": " 
                     + layer.size() + " drawables" + Settings.getLineSeparator());
@@ -356,8 +352,9 @@ public class LayerManager implements IDisposable, IDrawer
         boolean changed = false; 
         
         for (int i = 0; i < layerList.size(); i++)        
-           if (layerList.get(i).addAll(layerMan.layerList.get(i)) == true) 
-               changed = true;
+           for (IDrawable d : layerMan.layerList.get(i).toList())
+               if (layerList.get(i).add(d) == true) 
+                   changed = true;
         
         return changed;
     }       
@@ -369,8 +366,12 @@ public class LayerManager implements IDisposable, IDrawer
         boolean changed = false; 
         
         for (int i = 0; i < layerList.size(); i++)        
-           if (layerList.get(i).retainAll(layerMan.layerList.get(i)) == true) 
-               changed = true;
+           for (IDrawable d : layerList.get(i).toList())
+               if (!layerMan.layerList.get(i).contains(d)) 
+               {
+                   layerList.get(i).remove(d);
+                   changed = true;
+               }
         
         return changed;  
     }      
@@ -382,8 +383,9 @@ public class LayerManager implements IDisposable, IDrawer
         boolean changed = false; 
         
         for (int i = 0; i < layerList.size(); i++)        
-           if (layerList.get(i).removeAll(layerMan.layerList.get(i)) == true) 
-               changed = true;
+           for (IDrawable d : layerMan.layerList.get(i).toList())
+               if (layerList.get(i).remove(d) == true) 
+                   changed = true;
         
         return changed;
     }    
@@ -400,9 +402,9 @@ public class LayerManager implements IDisposable, IDrawer
        
         // Go through all the layers and call their disabled method if they
         // are entities.
-        for (List<IDrawable> list : layerList)
+        for (DrawableList list : layerList)
         {
-            for (IDrawable drawable : list)
+            for (IDrawable drawable : list.toList())
             {
                 if (drawable instanceof IEntity)
                 {
@@ -417,9 +419,9 @@ public class LayerManager implements IDisposable, IDrawer
      */
     public void dispose()
     {
-        for (List<IDrawable> list : layerList)
+        for (DrawableList list : layerList)
         {
-            for (IDrawable drawable : list)
+            for (IDrawable drawable : list.toList())
             {
                 if (drawable instanceof IDisposable)
                 {
@@ -429,4 +431,178 @@ public class LayerManager implements IDisposable, IDrawer
         } // end for
     }
     
+    /**
+     * The contents of a single layer.  Drawables are kept in insertion order 
+     * in an array of slots, and an identity map from each drawable to its 
+     * slot makes membership tests and removals constant time.  Removed 
+     * drawables leave an empty slot behind that is reclaimed by compacting 
+     * the array once enough of them have built up.
+     */
+    private static class DrawableList
+    {
+        /** The initial number of slots. */
+        private static final int INITIAL_CAPACITY = 16;
+        
+        /** The slots, in draw order.  Removed slots are null. */
+        IDrawable[] slots = new IDrawable[INITIAL_CAPACITY];
+        
+        /** One past the last used slot. */
+        int end = 0;
+        
+        /** The number of drawables in the list. */
+        private int count = 0;
+        
+        /** The slot of each drawable. */
+        private final Map<IDrawable, Integer> slotMap = 
+                new IdentityHashMap<IDrawable, Integer>();
+        
+        public int size()
+        {
+            return count;
+        }
+        
+        public boolean contains(IDrawable drawable)
+        {
+            return slotMap.containsKey(drawable);
+        }
+        
+        /**
+         * Appends the drawable to the end of the list.
+         * 
+         * @return True if it was added, false if it was already in the list.
+         */
+        public boolean add(IDrawable drawable)
+        {
+            if (slotMap.containsKey(drawable))
+                return false;
+            
+            if (end == slots.length)
+            {
+                // Reclaim removed slots if there are enough of them, 
+                // otherwise grow.
+                if (end - count >= slots.length / 2)
+                    compact(0);
+                else
+                    slots = grow(slots.length * 2);
+            }
+            
+            slots[end] = drawable;
+            slotMap.put(drawable, end);
+            end++;
+            count++;
+            
+            return true;
+        }
+        
+        /**
+         * Inserts the drawable at the start of the list.
+         * 
+         * @return True if it was added, false if it was already in the list.
+         */
+        public boolean addFirst(IDrawable drawable)
+        {
+            if (slotMap.containsKey(drawable))
+                return false;
+            
+            if (count + 1 > slots.length)
+                slots = grow(slots.length * 2);
+            
+            // Compact, leaving room for the new drawable in the first slot.
+            compact(1);
+            
+            slots[0] = drawable;
+            slotMap.put(drawable, 0);
+            count++;
+            
+            return true;
+        }
+        
+        /**
+         * Removes the drawable from the list.
+         * 
+         * @return True if it was removed, false if it was not in the list.
+         */
+        public boolean remove(IDrawable drawable)
+        {
+            Integer slot = slotMap.remove(drawable);
+            
+            if (slot == null)
+                return false;
+            
+            slots[slot] = null;
+            count--;
+            
+            // Trim trailing empty slots.
+            while (end > 0 && slots[end - 1] == null)
+                end--;
+            
+            return true;
+        }
+        
+        public void clear()
+        {
+            Arrays.fill(slots, 0, end, null);
+            slotMap.clear();
+            end = 0;
+            count = 0;
+        }
+        
+        /**
+         * Returns a snapshot of the list in draw order.
+         */
+        public List<IDrawable> toList()
+        {
+            List<IDrawable> list = new ArrayList<IDrawable>(count);
+            
+            for (int i = 0; i < end; i++)
+                if (slots[i] != null) list.add(slots[i]);
+            
+            return list;
+        }
+        
+        private IDrawable[] grow(int capacity)
+        {
+            IDrawable[] grown = new IDrawable[capacity];
+            System.arraycopy(slots, 0, grown, 0, end);
+            return grown;
+        }
+        
+        /**
+         * Packs the drawables to the front of the slot array, preserving their
+         * order, starting at the given offset.
+         */
+        private void compact(int offset)
+        {
+            // Pack forwards into [0, count) first.  The write index never 
+            // passes the read index, so nothing is overwritten.
+            int j = 0;
+            for (int i = 0; i < end; i++)
+            {
+                IDrawable d = slots[i];
+                if (d == null) continue;
+                
+                if (i != j)
+                {
+                    slots[i] = null;
+                    slots[j] = d;
+                }
+                
+                j++;
+            }
+            
+            // Then shift the packed drawables right by the offset, from the
+            // top down, so no drawable is overwritten before it is moved.
+            if (offset > 0)
+            {
+                System.arraycopy(slots, 0, slots, offset, count);
+                Arrays.fill(slots, 0, Math.min(offset, count), null);
+            }
+            
+            for (int i = offset; i < offset + count; i++)
+                slotMap.put(slots[i], i);
+            
+            end = offset + count;
+        }
+    }
+    
 }
@@ -25,10 +25,8 @@ import ca.couchware.wezzle2d.event.MoveEvent;
 import ca.couchware.wezzle2d.event.PieceEvent;
 import ca.couchware.wezzle2d.event.ScoreEvent;
 import ca.couchware.wezzle2d.event.TimerEvent;
-import java.util.ArrayList;
-import java.util.EnumMap;
-import java.util.List;
-import java.util.Map;
+import ca.couchware.wezzle2d.piece.Piece;
+import ca.couchware.wezzle2d.tracker.Chain;
 
 /**
  * A class that holds the entire game state. It holds
@@ -36,6 +34,12 @@ import java.util.Map;
  * all the listeners in the list are updated.
  * 
  * Implements the singleton pattern and the observer pattern.
+ * <p>
+ * Each listener type is kept in its own typed array that is replaced, never
+ * modified, when a listener is registered.  Notification just walks the 
+ * current array, so listeners may be registered from other threads (such as
+ * the loader) without locking the game loop.  The frequently fired events
+ * are reused between notifications rather than allocated each time.
  *  
  * @author cmckay
  * @author kgrad
@@ -66,71 +70,201 @@ public class ListenerManager
         TIMER
     }        
     
-    /** The score listener list. */
-    private Map<Listener, List<IListener>> listenerMap;
+    /*
+     * The listener arrays.  These are copy-on-write: they are never modified
+     * in place, only replaced.
+     */
+    
+    private volatile ICollisionListener[] collisionListeners = new ICollisionListener[0];
+    private volatile IGameListener[]      gameListeners      = new IGameListener[0];
+    private volatile ILevelListener[]     levelListeners     = new ILevelListener[0];
+    private volatile ILineListener[]      lineListeners      = new ILineListener[0];
+    private volatile IMoveListener[]      moveListeners      = new IMoveListener[0];
+    private volatile IPieceListener[]     pieceListeners     = new IPieceListener[0];
+    private volatile IScoreListener[]     scoreListeners     = new IScoreListener[0];
+    private volatile ITimerListener[]     timerListeners     = new ITimerListener[0];
+    
+    /*
+     * The reusable events.  An event is only reused if no notification of
+     * its type is in progress, so a listener that fires another event of the
+     * same type while handling one gets a fresh object.
+     */
+    
+    private final CollisionEvent collisionEvent = new CollisionEvent(this, null);
+    private final LineEvent      lineEvent      = new LineEvent(0, this);
+    private final MoveEvent      moveEvent      = new MoveEvent(this, 0);
+    private final PieceEvent     pieceEvent     = new PieceEvent(this, null, null);
+    private final ScoreEvent     scoreEvent     = new ScoreEvent(this, 0);
+    private final TimerEvent     timerEvent     = new TimerEvent(this, 0, 0);
+    
+    private int collisionDepth = 0;
+    private int lineDepth      = 0;
+    private int moveDepth      = 0;
+    private int pieceDepth     = 0;
+    private int scoreDepth     = 0;
+    private int timerDepth     = 0;
             
     /**
      * Private constructor to ensure only a single instance ever exists.
      */
     public ListenerManager()
     {
-        // Make the listener map.
-        listenerMap = new EnumMap<Listener, List<IListener>>(Listener.class);
+        // Intentionally left blank.
+    }              
+    
+    public synchronized void registerListener(Listener listenerType, IListener listener)
+    {
+        if (listener == null)
+            throw new IllegalArgumentException("Listener cannot be null");
         
-        // Make all the listener lists.
-        for (Listener t : Listener.values())
+        switch (listenerType)
         {
-            listenerMap.put(t, new ArrayList<IListener>());
+            case COLLISION:
+                collisionListeners = append(collisionListeners, 
+                        (ICollisionListener) listener, new ICollisionListener[collisionListeners.length + 1]);
+                break;
+                
+            case GAME:
+                gameListeners = append(gameListeners, 
+                        (IGameListener) listener, new IGameListener[gameListeners.length + 1]);
+                break;
+                
+            case LEVEL:
+                levelListeners = append(levelListeners, 
+                        (ILevelListener) listener, new ILevelListener[levelListeners.length + 1]);
+                break;
+                
+            case LINE:
+                lineListeners = append(lineListeners, 
+                        (ILineListener) listener, new ILineListener[lineListeners.length + 1]);
+                break;
+                
+            case MOVE:
+                moveListeners = append(moveListeners, 
+                        (IMoveListener) listener, new IMoveListener[moveListeners.length + 1]);
+                break;
+                
+            case PIECE:
+                pieceListeners = append(pieceListeners, 
+                        (IPieceListener) listener, new IPieceListener[pieceListeners.length + 1]);
+                break;
+                
+            case SCORE:
+                scoreListeners = append(scoreListeners, 
+                        (IScoreListener) listener, new IScoreListener[scoreListeners.length + 1]);
+                break;
+                
+            case TIMER:
+                timerListeners = append(timerListeners, 
+                        (ITimerListener) listener, new ITimerListener[timerListeners.length + 1]);
+                break;
+                
+            default: throw new AssertionError();
         }
-    }              
+    }       
     
-    public void registerListener(Listener listenerType, IListener listener)
+    /**
+     * Copies the listener array into the passed, one larger, array and adds 
+     * the listener to the end.
+     * 
+     * @param array The current listener array.
+     * @param listener The listener to add.
+     * @param grown An array one element larger than the current one.
+     * @return The grown array.
+     */
+    private static <T> T[] append(T[] array, T listener, T[] grown)
     {
-        if (listenerMap.get(listenerType).contains(listener) == true)
+        for (T t : array)
         {
-            throw new IllegalArgumentException("Listener already registered!");
+            if (t == listener)
+                throw new IllegalArgumentException("Listener already registered!");
         }
         
-        listenerMap.get(listenerType).add(listener);
-    }       
+        System.arraycopy(array, 0, grown, 0, array.length);
+        grown[array.length] = listener;
+        
+        return grown;
+    }
+    
+    /**
+     * Gets a score event for a notification, reusing the shared one if it 
+     * is not already being dispatched.
+     */
+    private ScoreEvent scoreEvent(Object source, int score)
+    {
+        if (scoreDepth > 0) 
+            return new ScoreEvent(source, score);
+        
+        scoreEvent.set(source, score);
+        return scoreEvent;
+    }
     
     /**
      * Notify all score listeners.
      * 
-     * @param e The event.
+     * @param source The event source.
+     * @param score The change in score.
      */    
-    public void notifyScoreIncreased(ScoreEvent e)
+    public void notifyScoreIncreased(Object source, int score)
     {
-        List<IListener> list = listenerMap.get(Listener.SCORE);
+        final IScoreListener[] listeners = scoreListeners;
+        final ScoreEvent e = scoreEvent(source, score);
         
-        for (IListener listener : list)
+        scoreDepth++;
+        try
+        {
+            for (IScoreListener listener : listeners)
+                listener.scoreIncreased(e);
+        }
+        finally
         {
-            ((IScoreListener) listener).scoreIncreased(e);
+            scoreDepth--;
         }
     }
     
     /**
      * Notify all score listeners.
      * 
-     * @param e The event.
+     * @param source The event source.
+     * @param score The new score.
      */    
-    public void notifyScoreChanged(ScoreEvent e)
+    public void notifyScoreChanged(Object source, int score)
     {
-        List<IListener> list = listenerMap.get(Listener.SCORE);
+        final IScoreListener[] listeners = scoreListeners;
+        final ScoreEvent e = scoreEvent(source, score);
         
-        for (IListener listener : list)
+        scoreDepth++;
+        try
         {
-            ((IScoreListener) listener).scoreChanged(e);
+            for (IScoreListener listener : listeners)
+                listener.scoreChanged(e);
+        }
+        finally
+        {
+            scoreDepth--;
         }
     }
     
-    public void notifyTargetScoreChanged(ScoreEvent e)
+    /**
+     * Notify all score listeners.
+     * 
+     * @param source The event source.
+     * @param score The new target score.
+     */  
+    public void notifyTargetScoreChanged(Object source, int score)
     {
-        List<IListener> list = listenerMap.get(Listener.SCORE);
+        final IScoreListener[] listeners = scoreListeners;
+        final ScoreEvent e = scoreEvent(source, score);
         
-        for (IListener listener : list)
+        scoreDepth++;
+        try
         {
-            ((IScoreListener) listener).targetScoreChanged(e);
+            for (IScoreListener listener : listeners)
+                listener.targetScoreChanged(e);
+        }
+        finally
+        {
+            scoreDepth--;
         }
     }
     
@@ -141,137 +275,249 @@ public class ListenerManager
      */    
     public void notifyLevelChanged(LevelEvent e)
     {
-        List<IListener> list = listenerMap.get(Listener.LEVEL);
-        
-        for (IListener listener : list)
+        for (ILevelListener listener : levelListeners)
         {
-            ((ILevelListener) listener).levelChanged(e);
+            listener.levelChanged(e);
         }
     }
     
+    /**
+     * Gets a move event for a notification, reusing the shared one if it 
+     * is not already being dispatched.
+     */
+    private MoveEvent moveEvent(Object source, int moveCount)
+    {
+        if (moveDepth > 0) 
+            return new MoveEvent(source, moveCount);
+        
+        moveEvent.set(source, moveCount);
+        return moveEvent;
+    }
+    
     /**
      * Notify all move listeners.
      * 
-     * @param e The event.
+     * @param source The event source.
+     * @param moveCount The number of moves.
+     * @param gameType The game type.
      */    
-    public void notifyMoveCommitted(MoveEvent e, GameType gameType)
+    public void notifyMoveCommitted(Object source, int moveCount, GameType gameType)
     {
-        List<IListener> list = listenerMap.get(Listener.MOVE);
+        final IMoveListener[] listeners = moveListeners;
+        final MoveEvent e = moveEvent(source, moveCount);
         
-        for (IListener listener : list)
+        moveDepth++;
+        try
+        {
+            for (IMoveListener listener : listeners)
+                listener.moveCommitted(e, gameType);
+        }
+        finally
         {
-            ((IMoveListener) listener).moveCommitted(e, gameType);
+            moveDepth--;
         }
     }
     
     /**
      * Notify all move listeners.
      * 
-     * @param e The event.
+     * @param source The event source.
+     * @param moveCount The number of moves.
      */    
-    public void notifyMoveCompleted(MoveEvent e)
+    public void notifyMoveCompleted(Object source, int moveCount)
     {
-        List<IListener> list = listenerMap.get(Listener.MOVE);
+        final IMoveListener[] listeners = moveListeners;
+        final MoveEvent e = moveEvent(source, moveCount);
         
-        for (IListener listener : list)
+        moveDepth++;
+        try
+        {
+            for (IMoveListener listener : listeners)
+                listener.moveCompleted(e);
+        }
+        finally
         {
-            ((IMoveListener) listener).moveCompleted(e);
+            moveDepth--;
         }
     }
     
     /**
      * Notify all line listeners.
      * 
-     * @param e The event.
+     * @param source The event source.
+     * @param lineCount The number of lines.
+     * @param gameType The game type.
      */    
-    public void notifyLineConsumed(LineEvent e, GameType gameType)
+    public void notifyLineConsumed(Object source, int lineCount, GameType gameType)
     {
-        List<IListener> list = listenerMap.get(Listener.LINE);
+        final ILineListener[] listeners = lineListeners;
+        final LineEvent e;
         
-        for (IListener listener : list)
+        if (lineDepth > 0)
+        {
+            e = new LineEvent(lineCount, source);
+        }
+        else
+        {
+            e = lineEvent;
+            e.set(lineCount, source);
+        }
+        
+        lineDepth++;
+        try
+        {
+            for (ILineListener listener : listeners)
+                listener.lineConsumed(e, gameType);
+        }
+        finally
         {
-            ((ILineListener) listener).lineConsumed(e, gameType);
+            lineDepth--;
         }
     }      
 
     public void notifyGameStarted(GameEvent e)
     {
-        List<IListener> list = listenerMap.get(Listener.GAME);
-        
-        for (IListener listener : list)
+        for (IGameListener listener : gameListeners)
         {
-            ((IGameListener) listener).gameStarted(e);
+            listener.gameStarted(e);
         }
     }
 
     public void notifyGameReset(GameEvent e)
     {
-        List<IListener> list = listenerMap.get(Listener.GAME);
-        
-        for (IListener listener : list)
+        for (IGameListener listener : gameListeners)
         {
-            ((IGameListener) listener).gameReset(e);
+            listener.gameReset(e);
         }
     }
 
     public void notifyGameOver(GameEvent e)
     {
-        List<IListener> list = listenerMap.get(Listener.GAME);
-        
-        for (IListener listener : list)
+        for (IGameListener listener : gameListeners)
         {
-            ((IGameListener) listener).gameOver(e);
+            listener.gameOver(e);
         }
     }   
     
-    public void notifyCollisionOccured(CollisionEvent e, ManagerHub hub, GameDifficulty difficulty)
+    public void notifyCollisionOccured(Object source, Chain chain, 
+            ManagerHub hub, GameDifficulty difficulty)
     {
-        List<IListener> list = listenerMap.get(Listener.COLLISION);
-         
-        for (IListener listener : list)
+        final ICollisionListener[] listeners = collisionListeners;
+        final CollisionEvent e;
+        
+        if (collisionDepth > 0)
         {
-            ((ICollisionListener) listener).collisionOccured( e, hub, difficulty);
+            e = new CollisionEvent(source, chain);
+        }
+        else
+        {
+            e = collisionEvent;
+            e.set(source, chain);
         }
          
+        collisionDepth++;
+        try
+        {
+            for (ICollisionListener listener : listeners)
+                listener.collisionOccured(e, hub, difficulty);
+        }
+        finally
+        {
+            collisionDepth--;
+            
+            // Don't pin the chain.
+            if (e == collisionEvent) e.set(this, null);
+        }
     }
     
-    public void notifyPieceAdded(PieceEvent e)
+    public void notifyPieceAdded(Object source, Piece currentPiece, Piece nextPiece)
     {
-        List<IListener> list = listenerMap.get(Listener.PIECE);
+        final IPieceListener[] listeners = pieceListeners;
+        final PieceEvent e;
+        
+        if (pieceDepth > 0)
+        {
+            e = new PieceEvent(source, currentPiece, nextPiece);
+        }
+        else
+        {
+            e = pieceEvent;
+            e.set(source, currentPiece, nextPiece);
+        }
          
-        for (IListener listener : list)
+        pieceDepth++;
+        try
+        {
+            for (IPieceListener listener : listeners)
+                listener.pieceAdded(e);
+        }
+        finally
         {
-            ((IPieceListener) listener).pieceAdded(e);
+            pieceDepth--;
         }
     }
     
-    public void notifyTickOccurred(TimerEvent e)
+    /**
+     * Gets a timer event for a notification, reusing the shared one if it 
+     * is not already being dispatched.
+     */
+    private TimerEvent timerEvent(Object source, int startTime, int currentTime)
     {
-        List<IListener> list = listenerMap.get(Listener.TIMER);
+        if (timerDepth > 0) 
+            return new TimerEvent(source, startTime, currentTime);
+        
+        timerEvent.set(source, startTime, currentTime);
+        return timerEvent;
+    }
+    
+    public void notifyTickOccurred(Object source, int startTime, int currentTime)
+    {
+        final ITimerListener[] listeners = timerListeners;
+        final TimerEvent e = timerEvent(source, startTime, currentTime);
          
-        for (IListener listener : list)
+        timerDepth++;
+        try
+        {
+            for (ITimerListener listener : listeners)
+                listener.tickOccurred(e);
+        }
+        finally
         {
-            ((ITimerListener) listener).tickOccurred(e);
+            timerDepth--;
         }
     }
     
-    public void notifyCurrentTimeReset(TimerEvent e)
+    public void notifyCurrentTimeReset(Object source, int startTime, int currentTime)
     {
-        List<IListener> list = listenerMap.get(Listener.TIMER);
+        final ITimerListener[] listeners = timerListeners;
+        final TimerEvent e = timerEvent(source, startTime, currentTime);
          
-        for (IListener listener : list)
+        timerDepth++;
+        try
+        {
+            for (ITimerListener listener : listeners)
+                listener.currentTimeReset(e);
+        }
+        finally
         {
-            ((ITimerListener) listener).currentTimeReset(e);
+            timerDepth--;
         }
     }
     
-    public void notifyStartTimeChanged(TimerEvent e)
+    public void notifyStartTimeChanged(Object source, int startTime, int currentTime)
     {
-        List<IListener> list = listenerMap.get(Listener.TIMER);
+        final ITimerListener[] listeners = timerListeners;
+        final TimerEvent e = timerEvent(source, startTime, currentTime);
          
-        for (IListener listener : list)
+        timerDepth++;
+        try
+        {
+            for (ITimerListener listener : listeners)
+                listener.startTimeChanged(e);
+        }
+        finally
         {
-            ((ITimerListener) listener).startTimeChanged(e);
+            timerDepth--;
         }
     }
        
@@ -10,10 +10,13 @@ import ca.couchware.wezzle2d.Game;
 import ca.couchware.wezzle2d.ManagerHub;
 import ca.couchware.wezzle2d.audio.Music;
 import ca.couchware.wezzle2d.audio.MusicPlayer;
+import ca.couchware.wezzle2d.audio.MusicScheduler;
 import ca.couchware.wezzle2d.manager.Settings.Key;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import paulscode.sound.SoundSystem;
@@ -31,6 +34,11 @@ public class MusicManager
      * The key for the current player.
      */
     private static final String CURRENT_PLAYER_KEY = "Current";    
+    
+    /**
+     * The key for the player of the next track.
+     */
+    private static final String NEXT_PLAYER_KEY = "Next";
 
     /**
      * Is the music manager paused?
@@ -71,6 +79,11 @@ public class MusicManager
         
     private final SettingsManager settingsMan;
     private final SoundSystem soundSystem;
+    
+    /**
+     * The thread that runs the fades and stops for all the players.
+     */
+    private final MusicScheduler scheduler = MusicScheduler.newInstance();
        
     /** 
      * The list of the music.
@@ -88,8 +101,24 @@ public class MusicManager
      */
     private MusicPlayer player;
     
+    /**
+     * The player for the next track in the play list.  It is started, 
+     * silent and paused, while the current track plays so that its stream is
+     * already open and buffered when it's needed.  Set to null if there is 
+     * no next track ready.
+     */
+    private MusicPlayer nextPlayer;
+    
     private final Map<String, MusicPlayer> playerMap = new HashMap<String, MusicPlayer>();
-    private final Map<String, MusicPlayer> musicPlayerCache = new HashMap<String, MusicPlayer>();
+    
+    /**
+     * Every open player, keyed by track name, least recently used first.  
+     * Each one holds an open stream, so idle ones are closed once there are
+     * more than Music.Max.Open.Streams of them, or when their theme is no 
+     * longer queued.
+     */
+    private final Map<String, MusicPlayer> musicPlayerCache = 
+            new LinkedHashMap<String, MusicPlayer>(16, 0.75f, true);
 
     private double normalizedGain = 0.0;
     
@@ -137,9 +166,10 @@ public class MusicManager
         // Record what it was changed to.
         CouchLogger.get().recordMessage(this.getClass(), "Theme set to " + theme);
         
-        // Stop and discard the player.
+        // Stop and discard the players.
         stop();        
         this.player = null;
+        discardNext();
         
         // Reset the play list.
         this.index = 0;
@@ -181,6 +211,63 @@ public class MusicManager
                 
             default: throw new AssertionError();
         } // end switch                                           
+        
+        // Close the streams of tracks that aren't queued anymore.
+        releaseUnqueued();
+    }
+    
+    /**
+     * Is the player open but not in use?
+     * 
+     * @param mp
+     * @return
+     */
+    private boolean isIdle(MusicPlayer mp)
+    {
+        return !playerMap.containsValue(mp) && (mp.isStopped() || mp.isFinished());
+    }
+    
+    /**
+     * Closes the idle players for tracks that are not in the play list.
+     */
+    private void releaseUnqueued()
+    {
+        Iterator<Map.Entry<String, MusicPlayer>> it = 
+                musicPlayerCache.entrySet().iterator();
+        
+        while (it.hasNext())
+        {
+            Map.Entry<String, MusicPlayer> entry = it.next();
+            
+            if (!playList.contains(Music.valueOf(entry.getKey())) 
+                    && isIdle(entry.getValue()))
+            {
+                entry.getValue().destroy();
+                it.remove();
+            }
+        }
+    }
+    
+    /**
+     * Closes idle players, least recently used first, until the number of 
+     * open players is within the budget or only players in use are left.
+     */
+    private void trimCache()
+    {
+        final int budget = settingsMan.getInt(Key.MUSIC_MAX_OPEN_STREAMS);
+        
+        Iterator<MusicPlayer> it = musicPlayerCache.values().iterator();
+        
+        while (musicPlayerCache.size() > budget && it.hasNext())
+        {
+            MusicPlayer mp = it.next();
+            
+            if (isIdle(mp))
+            {
+                mp.destroy();
+                it.remove();
+            }
+        }
     }
     
     public Theme getTheme()
@@ -252,6 +339,70 @@ public class MusicManager
         this.player.play();
         this.player.setNormalizedGain(0.0);
         this.player.fadeToGain(normalizedGain);
+        
+        // Get the next track ready.
+        prepareNext();
+    }
+    
+    /**
+     * Opens the next track in the play list and starts it silently, then 
+     * pauses it, so the sound system buffers its stream in the background.
+     */
+    private void prepareNext()
+    {
+        if (this.nextPlayer != null)
+            return;
+        
+        // A play list with one track just replays it.
+        final Music next = playList.get((index + 1) % playList.size());
+        if (next == playList.get(index))
+            return;
+        
+        this.nextPlayer = createPlayer(NEXT_PLAYER_KEY, next);
+        this.nextPlayer.setNormalizedGain(0.0);
+        this.nextPlayer.play();
+        this.nextPlayer.pause();
+    }
+    
+    /**
+     * Stops and forgets the prepared next track, if there is one.
+     */
+    private void discardNext()
+    {
+        if (this.nextPlayer == null)
+            return;
+        
+        destroyPlayer(NEXT_PLAYER_KEY);
+        this.nextPlayer = null;
+    }
+    
+    /**
+     * Moves on to the next track once the current one has finished.  If the
+     * next track was prepared ahead of time, its already buffered player 
+     * becomes the current one and resumes straight away at the current 
+     * volume, rather than fading in from silence.
+     */
+    private void advance()
+    {
+        if (this.nextPlayer == null)
+        {
+            next();
+            play();
+            return;
+        }
+        
+        // The prepared track replaces the finished one as the current one.
+        this.playerMap.remove(NEXT_PLAYER_KEY);
+        this.playerMap.put(CURRENT_PLAYER_KEY, this.nextPlayer);
+        this.player = this.nextPlayer;
+        this.nextPlayer = null;
+        this.index = (index + 1) % playList.size();
+        
+        this.player.setNormalizedGain(normalizedGain);
+        this.player.resume();
+        
+        // Get the track after it ready.
+        prepareNext();
     }
     
     public void stop()
@@ -281,6 +432,7 @@ public class MusicManager
             return;
         
         // Stop the current track, advance the index and release the old player.
+        discardNext();
         stop();
         player.rewind();
         player = null;
@@ -294,6 +446,7 @@ public class MusicManager
             return;
         
         // Stop the current track, reduce the index and release the old player.
+        discardNext();
         stop();
         player.rewind();
         player = null;
@@ -387,8 +540,7 @@ public class MusicManager
         // If it is, then move to the next track and start playing it.
         if (this.player != null && this.player.isFinished())
         {
-            next();
-            play();
+            advance();
         }
     }
     
@@ -410,7 +562,7 @@ public class MusicManager
             //CouchLogger.get().recordMessage(MusicManager.class, "Returning cached player");
         }
 
-        mp = MusicPlayer.newInstance(soundSystem, path);
+        mp = MusicPlayer.newInstance(soundSystem, scheduler, path);
         musicPlayerCache.put(sourcename, mp);
         return mp;
     }
@@ -430,9 +582,24 @@ public class MusicManager
         MusicPlayer mp = createPlayer(music.getPath(), music.name());
         playerMap.put(key, mp);
         
+        // Trim only once the new player is in use, as a player that has not
+        // been played yet is stopped and would otherwise count as idle.
+        trimCache();
+        
         return mp;
     }
 
+    /**
+     * Is there a player identified by the key?
+     *
+     * @param key
+     * @return
+     */
+    public boolean hasPlayer(String key)
+    {
+        return playerMap.containsKey(key);
+    }
+
     /**
      * Destory a player identified by a key.
      * 
@@ -16,8 +16,6 @@ import ca.couchware.wezzle2d.event.IMouseListener;
 import ca.couchware.wezzle2d.event.KeyEvent;
 import ca.couchware.wezzle2d.event.KeyEvent.Modifier;
 import ca.couchware.wezzle2d.event.MouseEvent;
-import ca.couchware.wezzle2d.event.MoveEvent;
-import ca.couchware.wezzle2d.event.PieceEvent;
 import ca.couchware.wezzle2d.graphics.IPositionable.Alignment;
 import ca.couchware.wezzle2d.piece.PieceGrid;
 import ca.couchware.wezzle2d.manager.LayerManager.Layer;
@@ -225,7 +223,7 @@ public class PieceManager implements IResettable, IKeyListener, IMouseListener
         this.pieceQueue.offer( nextPiece );
 
         // Fire new piece event.
-        hub.listenerMan.notifyPieceAdded( new PieceEvent( this, this.piece, nextPiece ) );
+        hub.listenerMan.notifyPieceAdded( this, this.piece, nextPiece );
         this.shadowPieceGrid.loadStructure( nextPiece.getStructure() );
 
         // Adjust the piece grid.
@@ -745,12 +743,12 @@ public class PieceManager implements IResettable, IKeyListener, IMouseListener
         // Increment the moves.
         if ( hub.tutorialMan.isTutorialRunning() )
         {
-            hub.listenerMan.notifyMoveCommitted( new MoveEvent( this, 1 ),
+            hub.listenerMan.notifyMoveCommitted( this, 1,
                     ListenerManager.GameType.TUTORIAL );
         }
         else
         {
-            hub.listenerMan.notifyMoveCommitted( new MoveEvent( this, 1 ),
+            hub.listenerMan.notifyMoveCommitted( this, 1,
                     ListenerManager.GameType.GAME );
         }
 
@@ -7,7 +7,6 @@ import ca.couchware.wezzle2d.event.GameEvent;
 import ca.couchware.wezzle2d.event.IGameListener;
 import ca.couchware.wezzle2d.event.ILevelListener;
 import ca.couchware.wezzle2d.event.LevelEvent;
-import ca.couchware.wezzle2d.event.ScoreEvent;
 import ca.couchware.wezzle2d.tile.Tile;
 import ca.couchware.wezzle2d.tile.TileType;
 import ca.couchware.wezzle2d.util.Rational;
@@ -314,7 +313,7 @@ public class ScoreManager implements IResettable, ISaveable, IGameListener, ILev
     public void setLevelScore(int levelScore)
     {
         this.levelScore = levelScore;
-        hub.listenerMan.notifyScoreChanged( new ScoreEvent( this, levelScore ) );
+        hub.listenerMan.notifyScoreChanged( this, levelScore );
     }
 
     public int getTotalScore()
@@ -336,7 +335,7 @@ public class ScoreManager implements IResettable, ISaveable, IGameListener, ILev
     {
         setLevelScore( 0 );
         setTotalScore( 0 );
-        hub.listenerMan.notifyScoreChanged( new ScoreEvent( this, 0 ) );
+        hub.listenerMan.notifyScoreChanged( this, 0 );
     }
 
     /**
@@ -356,7 +355,7 @@ public class ScoreManager implements IResettable, ISaveable, IGameListener, ILev
         this.targetTotalScore += targetLevelScore;
 
         // Fire event.
-        hub.listenerMan.notifyTargetScoreChanged( new ScoreEvent( this, targetLevelScore ) );
+        hub.listenerMan.notifyTargetScoreChanged( this, targetLevelScore );
     }
 
     /**
@@ -400,8 +399,8 @@ public class ScoreManager implements IResettable, ISaveable, IGameListener, ILev
         }
 
         // Notify all listeners.
-        hub.listenerMan.notifyScoreIncreased( new ScoreEvent( this, deltaScore ) );
-        hub.listenerMan.notifyScoreChanged( new ScoreEvent( this, levelScore ) );
+        hub.listenerMan.notifyScoreIncreased( this, deltaScore );
+        hub.listenerMan.notifyScoreChanged( this, levelScore );
     }
 
     /**
@@ -220,6 +220,9 @@ public class Settings
         MAIN_MENU_LOGO_FADE_IN_DURATION(Integer.class),
         MAIN_MENU_LOGO_FADE_OUT_WAIT(Integer.class),
         MAIN_MENU_LOGO_FADE_OUT_DURATION(Integer.class),
+        GROUP_IDLE_DISPOSE_DELAY(Integer.class),
+        SOUND_MAX_VOICES(Integer.class),
+        MUSIC_MAX_OPEN_STREAMS(Integer.class),
         
         // Item values.
         ITEM_COOLDOWN_STAR(Integer.class);
@@ -8,12 +8,9 @@ package ca.couchware.wezzle2d.manager;
 import ca.couchware.wezzle2d.Game;
 import ca.couchware.wezzle2d.audio.Sound;
 import ca.couchware.wezzle2d.audio.SoundPlayer;
+import ca.couchware.wezzle2d.audio.VoicePool;
 import ca.couchware.wezzle2d.manager.Settings.Key;
 import ca.couchware.wezzle2d.util.CouchLogger;
-import java.util.ArrayList;
-import java.util.EnumMap;
-import java.util.List;
-import java.util.Map;
 import java.util.concurrent.Executor;
 import paulscode.sound.SoundSystem;
 
@@ -34,14 +31,9 @@ public class SoundManager implements IResettable
     private final SoundSystem soundSystem;
     
     /** 
-     * The list of effects.
+     * The voices used to play the effects.
      */   
-    private Map<Sound, List<SoundPlayer>> soundMap;
-    
-    /**
-     * The current buffer.
-     */
-    private Map<Sound, Integer> bufferPointerMap;
+    private final VoicePool voicePool;
    
     /** 
      * Determine if the sound is on or off.
@@ -94,9 +86,11 @@ public class SoundManager implements IResettable
         this.soundSystem = soundSystem;
         this.settingsMan = settingsMan;
         
-        // Initiate the array list.
-        this.soundMap = new EnumMap<Sound, List<SoundPlayer>>(Sound.class);
-        this.bufferPointerMap = new EnumMap<Sound, Integer>(Sound.class);
+        // Create the voice pool.  Repeated plays of a sound within the same
+        // tick are merged into one.
+        this.voicePool = new VoicePool(
+                settingsMan.getInt(Key.SOUND_MAX_VOICES),
+                Settings.getMillisecondsPerTick());
         
         // Add some Sound effects. MUST USE addsound effect as it 
         // handles buffering.
@@ -127,37 +121,17 @@ public class SoundManager implements IResettable
      */
     final private void create(Sound sound, String path)
     {
+        // Decode the sample into the sound system's bank once, up front.
+        // Every voice below is a source that plays from that one buffer, 
+        // since sources are matched to loaded samples by path.
+        soundSystem.loadSound(path);
+        
         final int numBuffers = sound.getNumberOfBuffers();
-        final List<SoundPlayer> buffer = new ArrayList<SoundPlayer>(numBuffers);
 
         for (int i = 0; i < numBuffers; i++)
         {
-            buffer.add(new SoundPlayer(soundSystem, path));
+            voicePool.add(sound, new SoundPlayer(soundSystem, path));
         }
-        
-        soundMap.put(sound, buffer);
-        bufferPointerMap.put(sound, 0);
-    }
-        
-    /**
-     * Return a reference to the effect with the associated key.
-     *
-     * @param key The associated key.
-     * @return The effect.
-     */
-    public SoundPlayer getPlayer(final Sound sound)
-    {               
-        // The current buffer.
-        int bufferPointer = bufferPointerMap.get(sound);
-
-        // The next buffer
-        int nextBufferPointer = (bufferPointer + 1) % sound.getNumberOfBuffers();
-
-        // Set the next buffer to be used.
-        bufferPointerMap.put(sound, nextBufferPointer);
-
-        // Return the proper buffered effect.
-        return soundMap.get(sound).get(bufferPointer);
     }
     
     /**
@@ -171,24 +145,13 @@ public class SoundManager implements IResettable
         if (this.paused == true)
             return;
         
-        // Get the sound effect to play.
-        final SoundPlayer player = getPlayer(sound);
-
-        // Play the sound.
-        player.setNormalizedGain(normalizedGain);
-        player.play();        
+        // Play the sound on whatever voice the pool gives us.
+        voicePool.play(sound, normalizedGain);
     }     
 
     public void stopAll()
     {
-        for (Sound sound : soundMap.keySet())
-        {
-            for (SoundPlayer player : soundMap.get(sound))
-            {
-                player.setNormalizedGain(0.0);
-                player.close();
-            } // end for
-        } // end for
+        voicePool.stopAll();
     }
 
     public double getNormalizedGain()
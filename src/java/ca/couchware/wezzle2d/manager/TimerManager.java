@@ -7,7 +7,6 @@ import ca.couchware.wezzle2d.event.ILevelListener;
 import ca.couchware.wezzle2d.event.IMoveListener;
 import ca.couchware.wezzle2d.event.LevelEvent;
 import ca.couchware.wezzle2d.event.MoveEvent;
-import ca.couchware.wezzle2d.event.TimerEvent;
 import ca.couchware.wezzle2d.manager.ListenerManager.GameType;
 
 /**
@@ -121,7 +120,7 @@ public class TimerManager implements
         }
 
         this.currentTime -= Settings.getMillisecondsPerTick();
-        this.listenerMan.notifyTickOccurred( new TimerEvent( this, this.startTime, this.currentTime ) );
+        this.listenerMan.notifyTickOccurred( this, this.startTime, this.currentTime );
     }
 
     /**
@@ -131,7 +130,7 @@ public class TimerManager implements
     {
         this.currentTime = this.startTime;        
         this.listenerMan.notifyCurrentTimeReset(
-                new TimerEvent( this, this.startTime, this.currentTime ) );
+                this, this.startTime, this.currentTime );
     }
 
     /**
@@ -143,7 +142,7 @@ public class TimerManager implements
     {
         this.startTime = time;              
         this.listenerMan.notifyStartTimeChanged(
-                new TimerEvent( this, this.startTime, this.currentTime ) );
+                this, this.startTime, this.currentTime );
         this.resetCurrentTime();
     }
 
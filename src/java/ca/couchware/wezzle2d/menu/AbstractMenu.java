@@ -90,16 +90,14 @@ public abstract class AbstractMenu extends AbstractGroup
             fadeList.add(anim);
         }
 
-        IAnimation fade = new MetaAnimation.Builder()
-                .runRule(MetaAnimation.RunRule.SIMULTANEOUS)
-                .addAll(fadeList)
-                .build();
-
-        IAnimation meta = new MetaAnimation.Builder()
+        MetaAnimation.Builder builder = new MetaAnimation.Builder()
                 .runRule(MetaAnimation.RunRule.SEQUENCE)
-                .add(move)
-                .add(fade)
-                .build();
+                .add(move);
+
+        if (!fadeList.isEmpty())
+            builder.addGroup(fadeList.toArray(new IAnimation[fadeList.size()]));
+
+        IAnimation meta = builder.build();
         
         meta.addAnimationListener(new AnimationAdapter()
         {
@@ -129,4 +127,16 @@ public abstract class AbstractMenu extends AbstractGroup
         return anim;
     }
 
+    @Override
+    public void dispose()
+    {
+        removeEntities(menuLayerMan, Layer.UI);
+        super.dispose();
+
+        if (menuLayerMan.contains(menuBox, Layer.UI))
+            menuLayerMan.remove(menuBox, Layer.UI);
+
+        menuBox.dispose();
+    }
+
 }
@@ -34,6 +34,7 @@ import ca.couchware.wezzle2d.ui.Button;
 import ca.couchware.wezzle2d.group.AbstractGroup;
 import ca.couchware.wezzle2d.group.EmptyGroup;
 import ca.couchware.wezzle2d.group.IGroup;
+import ca.couchware.wezzle2d.group.LazyGroup;
 import ca.couchware.wezzle2d.util.CouchLogger;
 import java.awt.Shape;
 import java.util.EnumMap;
@@ -112,7 +113,7 @@ public class MainMenu extends AbstractGroup implements IDrawer, IMenu
     private EnumMap<Menu, IButton> buttonMap;
     
     /** A map containing all the groups in the main menu. */
-    private EnumMap<Menu, IGroup> menuMap;
+    private EnumMap<Menu, LazyGroup<IGroup>> menuMap;
     
     /** The current button that is activated. */
     private Menu currentMenu = Menu.NONE;
@@ -167,6 +168,9 @@ public class MainMenu extends AbstractGroup implements IDrawer, IMenu
             }
         }
 
+        // Make sure the sound effects are on for the menus.
+        hub.soundMan.setPaused( false );
+
         initializeBackground(hub);
         initializeLogo(hub);
         initializeButtons(win, hub);
@@ -297,51 +301,92 @@ public class MainMenu extends AbstractGroup implements IDrawer, IMenu
         }
     };
     
-    private void initializeMenus(IWindow win, ManagerHub hub)
+    private void initializeMenus(final IWindow win, final ManagerHub hub)
     {
-        // Create the group map.
-        this.menuMap = new EnumMap<Menu, IGroup>(Menu.class);
-        
-        // A temporary group holder.
-        IGroup menu = null;
-        
-        // Create the None group.
-        menu = new EmptyGroup();
-        menu.setActivated(true);
-        this.menuMap.put(Menu.NONE, menu);
-        
-        // Create the "Play Now" group.
-        menu = new PlayNowMenu(this, win, hub, this.menuLayerMan);
-
-        this.menuMap.put(Menu.PLAY_NOW, menu);
-
-        // Create the "Achievements" group.
-        menu = Game.isApplet()
-                ? new NotAvailableMenu(this, "Achievements", win, hub, this.menuLayerMan)
-                : new AchievementMenu(this, win, hub, this.menuLayerMan);
-        this.menuMap.put(Menu.ACHIEVEMENTS, menu);
+        // Create the group map.  The menus themselves are not built until 
+        // they are first opened.
+        this.menuMap = new EnumMap<Menu, LazyGroup<IGroup>>(Menu.class);
 
-        // Create the "Achievements" group.
-        menu = new OptionsMenu(this, win, hub, this.menuLayerMan);
-        this.menuMap.put(Menu.OPTIONS, menu);
+        // The parent of the menus.
+        final MainMenu parent = this;
         
-        // Create the "High Scores" group.
-        menu = Game.isApplet()
-                ? new NotAvailableMenu(this, "High Scores", win, hub, this.menuLayerMan)
-                : new HighScoreMenu(this, win, hub, this.menuLayerMan);
-        this.menuMap.put(Menu.HIGH_SCORES, menu);
+        for (final Menu menu : Menu.values())
+        {
+            this.menuMap.put(menu, new LazyGroup<IGroup>()
+            {
+                @Override
+                protected IGroup create()
+                {
+                    return createMenu(menu, parent, win, hub);
+                }
+            });
+        }
+    }
+    
+    /**
+     * Builds the group for a menu.
+     */
+    private static IGroup createMenu(Menu menu, MainMenu parent,
+            IWindow win, ManagerHub hub)
+    {
+        final LayerManager layerMan = parent.menuLayerMan;
         
-        // Create the "Credits" group.
-        menu = new CreditsMenu(this, win, hub, this.menuLayerMan);
-        this.menuMap.put(Menu.CREDITS, menu);
-
-        // Create the "Buy Now" group.
-        menu = new BuyNowMenu(this, win, hub, this.menuLayerMan);
-        this.menuMap.put(Menu.BUY_NOW, menu);
-
-        // Create the "Credits" group.
-        menu = new ExitGameMenu(this, win, hub, this.menuLayerMan);
-        this.menuMap.put(Menu.EXIT, menu);
+        switch (menu)
+        {
+            case NONE:
+                
+                IGroup none = new EmptyGroup();
+                none.setActivated(true);
+                return none;
+                
+            case PLAY_NOW:
+                
+                return new PlayNowMenu(parent, win, hub, layerMan);
+                
+            case ACHIEVEMENTS:
+                
+                return Game.isApplet()
+                        ? new NotAvailableMenu(parent, "Achievements", win, hub, layerMan)
+                        : new AchievementMenu(parent, win, hub, layerMan);
+                
+            case OPTIONS:
+                
+                return new OptionsMenu(parent, win, hub, layerMan);
+                
+            case HIGH_SCORES:
+                
+                return Game.isApplet()
+                        ? new NotAvailableMenu(parent, "High Scores", win, hub, layerMan)
+                        : new HighScoreMenu(parent, win, hub, layerMan);
+                
+            case CREDITS:
+                
+                return new CreditsMenu(parent, win, hub, layerMan);
+                
+            case BUY_NOW:
+                
+                return new BuyNowMenu(parent, win, hub, layerMan);
+                
+            case EXIT:
+                
+                return new ExitGameMenu(parent, win, hub, layerMan);
+                
+            default: throw new AssertionError();
+        }
+    }
+    
+    /**
+     * Disposes of the menus, other than the current one, that have not been
+     * opened for a while.
+     */
+    private void disposeIdleMenus()
+    {
+        final int idleDelay = hub.settingsMan.getInt(Key.GROUP_IDLE_DISPOSE_DELAY);
+        
+        for (Menu menu : this.menuMap.keySet())
+        {
+            this.menuMap.get(menu).tick(menu == currentMenu, idleDelay);
+        }
     }
     
     @Override
@@ -390,7 +435,7 @@ public class MainMenu extends AbstractGroup implements IDrawer, IMenu
 
                             if (Game.isApplet() && menu == Menu.PLAY_NOW)
                             {
-                                ((PlayNowMenu) this.menuMap.get(menu)).startGame(game, hub);                                
+                                ((PlayNowMenu) this.menuMap.get(menu).get()).startGame(game, hub);                                
                             }
                             else
                             {
@@ -410,15 +455,15 @@ public class MainMenu extends AbstractGroup implements IDrawer, IMenu
                                 // Animate the change.
                                 this.currentAnimation = new MetaAnimation.Builder()
                                         .finishRule(MetaAnimation.FinishRule.ALL)                                       
-                                        .add(this.menuMap.get(currentMenu).animateHide())
-                                        .add(this.menuMap.get(menu).animateShow())
+                                        .add(this.menuMap.get(currentMenu).get().animateHide())
+                                        .add(this.menuMap.get(menu).get().animateShow())
                                         .build();
 
                                 // Set the new current button.
                                 this.currentMenu = menu;
 
                                 // Activate the current group.
-                                this.menuMap.get(menu).setActivated(true);
+                                this.menuMap.get(menu).get().setActivated(true);
                             }
                         }
                         else
@@ -427,10 +472,12 @@ public class MainMenu extends AbstractGroup implements IDrawer, IMenu
                             button.setActivated(false);
                             button.setDisabled(true);
                             
-                            // Deactivate the other groups.
-                            if (!Game.isApplet())
+                            // Deactivate the other groups.  Groups that 
+                            // were never opened don't need it.
+                            IGroup other = this.menuMap.get(menu).peek();
+                            if (!Game.isApplet() && other != null)
                             {
-                                this.menuMap.get(menu).setActivated(false);
+                                other.setActivated(false);
                             }
                         }                        
                     } // end for
@@ -440,7 +487,7 @@ public class MainMenu extends AbstractGroup implements IDrawer, IMenu
                 // then we need to hide the group and deactivate the button.
                 // This will bring us back to the initial menu screen with
                 // no buttons activated.
-                IGroup group = this.menuMap.get(currentMenu);
+                IGroup group = this.menuMap.get(currentMenu).get();
                 if ( !group.isActivated() )
                 {
                     this.buttonMap.get(currentMenu).setActivated(false);
@@ -459,6 +506,9 @@ public class MainMenu extends AbstractGroup implements IDrawer, IMenu
                     // Update the group logic.
                     group.updateLogic(game, hub);
                     
+                    // Let go of any menus that haven't been used in a while.
+                    disposeIdleMenus();
+                    
                     // See if the group deactivated the main menu.  If the main
                     // menu is deactivated, then we need to start the game.                    
                     if ( !this.activated )
@@ -576,7 +626,7 @@ public class MainMenu extends AbstractGroup implements IDrawer, IMenu
                 .finishRule(MetaAnimation.FinishRule.ALL);
         
         // Hide the current group.
-        builder.add(this.menuMap.get(this.currentMenu).animateHide());
+        builder.add(this.menuMap.get(this.currentMenu).get().animateHide());
         
         // Fade out the logo.
         IAnimation fadeLogo = new FadeAnimation.Builder(FadeAnimation.Type.OUT, logoEntity)
@@ -667,7 +717,7 @@ public class MainMenu extends AbstractGroup implements IDrawer, IMenu
             button.dispose();
         }
         
-        for (IGroup group : menuMap.values())
+        for (LazyGroup<IGroup> group : menuMap.values())
         {
             group.dispose();
         }
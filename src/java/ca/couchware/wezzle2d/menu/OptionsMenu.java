@@ -94,7 +94,6 @@ public class OptionsMenu extends AbstractMenu
         final Color OPTION_COLOR = hub.settingsMan.getColor(Key.GAME_COLOR_SECONDARY);
 
         this.menuPlayer = ((MainMenu) this.parent).getPlayer();
-        hub.soundMan.setPaused( false );
    
         createMenuEntities(win, hub, LABEL_COLOR, OPTION_COLOR);
         createEntitiesForGamePage(win, hub, LABEL_COLOR, OPTION_COLOR);
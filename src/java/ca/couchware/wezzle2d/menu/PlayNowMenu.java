@@ -589,4 +589,22 @@ public class PlayNowMenu extends AbstractMenu
         return super.animateHide();
     }
 
+    @Override
+    public void dispose()
+    {
+        // Release the theme players so their streams can be closed.  They
+        // are already gone if a game was started from this menu.
+        if (!Game.isApplet())
+        {
+            for (String key : new String[] { THEME_TRON_KEY, 
+                    THEME_ELECTRONIC_KEY, THEME_HIPPOP_KEY })
+            {
+                if (hub.musicMan.hasPlayer(key))
+                    hub.musicMan.destroyPlayer(key);
+            }
+        }
+
+        super.dispose();
+    }
+
 }
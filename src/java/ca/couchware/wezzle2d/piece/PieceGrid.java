@@ -9,7 +9,6 @@ import ca.couchware.wezzle2d.graphics.IPositionable.Alignment;
 import ca.couchware.wezzle2d.graphics.ISprite;
 import ca.couchware.wezzle2d.manager.Settings;
 import ca.couchware.wezzle2d.util.NumUtil;
-import ca.couchware.wezzle2d.util.CouchColor;
 import java.awt.Color;
 import java.util.Arrays;
 import java.util.EnumMap;
@@ -393,12 +392,13 @@ public class PieceGrid extends AbstractEntity
             {
                 if ( structure[i][j] )
                 {
-                    spriteArray[i][j].draw(
+                    ISprite sprite = spriteArray[i][j];
+                    sprite.draw(
                             x + offsetX + (i) * cellWidth,
-                            y + offsetY + (j) * cellHeight )
-                            .opacity( this.opacity )
-                            .theta( this.theta, -32 * i + 48, -32 * j + 48 )
-                            .end();
+                            y + offsetY + (j) * cellHeight,
+                            sprite.getWidth(), sprite.getHeight(),
+                            this.theta, -32 * i + 48, -32 * j + 48,
+                            this.opacity );
                 } // end if
             } // end for
         } // end for	
@@ -410,7 +410,7 @@ public class PieceGrid extends AbstractEntity
     private void renderVector()
     {
         // Save the old color and set the new one.
-        CouchColor oldColor = graphics.getColor();
+        int oldColor = graphics.getPackedColor();
         graphics.setColor( color );
 
         // Cycle through, drawing only the sprites that should be shown.
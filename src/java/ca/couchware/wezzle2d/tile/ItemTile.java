@@ -1,7 +1,6 @@
 package ca.couchware.wezzle2d.tile;
 
 import ca.couchware.wezzle2d.graphics.ISprite;
-import ca.couchware.wezzle2d.*;
 
 /**
  * An abstract class for making item tiles like bombs and rockets.
@@ -31,13 +30,20 @@ public abstract class ItemTile extends Tile
         super(color, x, y);
         
         // Load bomb sprite.
-        itemSprite = ResourceFactory.get().getSprite(path);
+        itemSprite = TileSprites.getItemSprite(path);
         
         // Initialize the item theta.
         itemTheta = 0;
     }
     
     
+    @Override
+    void reset(TileColor color, int x, int y)
+    {
+        super.reset(color, x, y);
+        itemTheta = 0;
+    }
+    
     /**
      * Override that draw muthafucka.
      */
@@ -52,9 +58,8 @@ public abstract class ItemTile extends Tile
         
         // Draw bomb on top of it.
         //itemSprite.draw((int) x2, (int) y2, width, height, itemTheta, opacity);
-        itemSprite.draw(x, y).width(width).height(height)
-                .theta(itemTheta, width / 2, height /2)
-                .opacity(opacity).end();
+        itemSprite.draw(x, y, width, height,
+                itemTheta, width / 2, height / 2, opacity);
         
         return true;
     }
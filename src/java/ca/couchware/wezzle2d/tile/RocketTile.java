@@ -60,15 +60,31 @@ public class RocketTile extends ItemTile
         super(PATH, color, x, y);
                                
         // Determine a random rotation.
+        randomizeDirection();
+        
+        // Set the type.
+        this.type = TileType.ROCKET;
+    }              
+    
+    @Override
+    void reset(TileColor color, int x, int y)
+    {
+        super.reset(color, x, y);
+        randomizeDirection();
+    }
+    
+    /**
+     * Picks a random direction for the rocket and sets the item theta to
+     * match it.
+     */
+    final private void randomizeDirection()
+    {
         Direction[] values = Direction.values();
         direction = values[NumUtil.random.nextInt(values.length)];
         
         // Set the item theta.
         itemTheta = determineItemTheta(direction);
-        
-        // Set the type.
-        this.type = TileType.ROCKET;
-    }              
+    }
     
     final private double determineItemTheta(Direction direction)
     {
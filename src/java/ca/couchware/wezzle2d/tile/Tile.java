@@ -1,7 +1,7 @@
 package ca.couchware.wezzle2d.tile;
 
 import ca.couchware.wezzle2d.graphics.GraphicEntity;
-import ca.couchware.wezzle2d.manager.Settings;
+import ca.couchware.wezzle2d.util.ImmutablePosition;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -14,11 +14,8 @@ import java.util.List;
 public class Tile extends GraphicEntity
 {
 
-    /** The file extension for tile graphics. */
-    protected static final String FILE_EXT = ".png";
-
     /** The colour of the tile. */
-    protected final TileColor color;
+    protected TileColor color;
 
     /** The tile type, i.e. NORMAL, ROCKET, etc. */
     protected TileType type;
@@ -33,8 +30,8 @@ public class Tile extends GraphicEntity
     public Tile(TileColor color, int x, int y)
     {
         // Invoke super.
-        super(new Builder(x, y,
-                Settings.getSpriteResourcesPath() + "/Tile" + color + FILE_EXT));
+        super(new Builder(x, y, TileSprites.getColorPath(color))
+                .sprite(TileSprites.getColorSprite(color)));
 
         // Set the position.
         this.x = x;
@@ -58,6 +55,40 @@ public class Tile extends GraphicEntity
         this(tile.color, tile.x, tile.y);
     }
 
+    /**
+     * Reinitializes a recycled tile so that it is indistinguishable from a 
+     * freshly constructed one of the same type.  Used by the tile pool.
+     * 
+     * @param color
+     * @param x
+     * @param y
+     */
+    void reset(TileColor color, int x, int y)
+    {
+        this.color  = color;
+        this.path   = TileSprites.getColorPath(color);
+        this.sprite = TileSprites.getColorSprite(color);
+
+        this.x = x;
+        this.y = y;
+        this.x_ = x;
+        this.y_ = y;
+
+        this.width  = sprite.getWidth();
+        this.height = sprite.getHeight();
+        this.width_  = width;
+        this.height_ = height;
+
+        this.theta = 0.0;
+        this.rotationAnchor = ImmutablePosition.ORIGIN;
+        this.opacity  = 100;
+        this.visible  = true;
+        this.disabled = false;
+        this.animation = null;
+        this.tileListenerList.clear();
+        this.dirty = true;
+    }
+
     /**
      * Gets the tile color.
      *      
@@ -92,7 +123,8 @@ public class Tile extends GraphicEntity
             return false;
         }
 
-        sprite.draw(x + offsetX, y + offsetY).width(width).height(height).theta(theta, rotationAnchor).opacity(opacity).end();
+        sprite.draw(x + offsetX, y + offsetY, width, height,
+                theta, rotationAnchor.getX(), rotationAnchor.getY(), opacity);
 
         return true;
     }
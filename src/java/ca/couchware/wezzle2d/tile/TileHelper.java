@@ -36,7 +36,7 @@ public class TileHelper
 
     /**
      * Creates a new tile with the given type, color and position and returns
-     * it.
+     * it.  A free tile from the tile pool is reused if there is one.
      *
      * @param type
      * @param color
@@ -46,7 +46,11 @@ public class TileHelper
      */
     public static Tile makeTile(TileType type, TileColor color, int x, int y)
     {
-        Tile t;
+        // Recycle a pooled tile if one is available.
+        Tile t = TilePool.get().obtain(type, color, x, y);
+
+        if (t != null)
+            return t;
 
         switch (type)
         {
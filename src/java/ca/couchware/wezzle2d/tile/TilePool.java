@@ -0,0 +1,106 @@
+/*
+ *  Wezzle
+ *  Copyright (c) 2007-2008 Couchware Inc.  All rights reserved.
+ */
+
+package ca.couchware.wezzle2d.tile;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A pool of tiles, keyed by type, that lets tiles that are no longer in use be
+ * recycled instead of being reallocated.  A tile must only be released
+ * once nothing else (the board, the layer manager, an animation or the
+ * move being tracked) holds a reference to it.
+ * 
+ * @author cdmckay
+ */
+public class TilePool
+{
+    
+    /** The maximum number of free tiles kept per type. */
+    private static final int MAX_FREE_PER_TYPE = 128;
+    
+    /** The single instance of this class to ever exist. */
+    private static final TilePool SINGLE = new TilePool();
+    
+    /** The free tiles, per type. */
+    private final Map<TileType, List<Tile>> freeMap = 
+            new EnumMap<TileType, List<Tile>>(TileType.class);
+    
+    /**
+     * The constructor is private to enforce the singleton pattern.
+     */
+    private TilePool()
+    {
+        for (TileType type : TileType.values())
+            freeMap.put(type, new ArrayList<Tile>());
+    }
+    
+    /**
+     * Retrieve the single instance of this class.
+     * 
+     * @return The single instance of this class.
+     */
+    public static TilePool get()
+    {
+        return SINGLE;
+    }
+    
+    /**
+     * Takes a free tile of the given type from the pool and reinitializes it
+     * with the given colour and position.
+     * 
+     * @param type
+     * @param color
+     * @param x
+     * @param y
+     * @return The recycled tile, or null if there are no free tiles of that type.
+     */
+    public synchronized Tile obtain(TileType type, TileColor color, int x, int y)
+    {
+        List<Tile> freeList = freeMap.get(type);
+        
+        if (freeList.isEmpty())
+            return null;
+        
+        Tile t = freeList.remove(freeList.size() - 1);
+        t.reset(color, x, y);
+        
+        return t;
+    }
+    
+    /**
+     * Returns a tile to the pool so it may be recycled.
+     * 
+     * @param tile
+     */
+    public synchronized void release(Tile tile)
+    {
+        if (tile == null)
+            throw new IllegalArgumentException("Tile cannot be null");
+        
+        List<Tile> freeList = freeMap.get(tile.getType());
+        
+        if (freeList.size() < MAX_FREE_PER_TYPE)
+        {
+            assert !freeList.contains(tile);
+            freeList.add(tile);
+        }
+    }
+    
+    /**
+     * Gets the number of free tiles of the given type.
+     * 
+     * @param type
+     * @return The number of free tiles.
+     */
+    public synchronized int getFreeCount(TileType type)
+    {
+        return freeMap.get(type).size();
+    }
+    
+}
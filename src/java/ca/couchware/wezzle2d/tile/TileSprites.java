@@ -0,0 +1,104 @@
+/*
+ *  Wezzle
+ *  Copyright (c) 2007-2008 Couchware Inc.  All rights reserved.
+ */
+
+package ca.couchware.wezzle2d.tile;
+
+import ca.couchware.wezzle2d.ResourceFactory;
+import ca.couchware.wezzle2d.graphics.ISprite;
+import ca.couchware.wezzle2d.manager.Settings;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A flyweight table of the sprites shared by all tiles.  Each colour sprite
+ * and item sprite is resolved through the resource factory exactly once, the
+ * first time it is asked for, and then handed out to every tile that needs it.
+ * 
+ * @author cdmckay
+ */
+final class TileSprites
+{
+    
+    /** The file extension for tile graphics. */
+    private static final String FILE_EXT = ".png";
+    
+    /** The colour sprite paths, built once per colour. */
+    private static final Map<TileColor, String> colorPathMap = 
+            new EnumMap<TileColor, String>(TileColor.class);
+    
+    /** The colour sprites. */
+    private static final Map<TileColor, ISprite> colorSpriteMap = 
+            new EnumMap<TileColor, ISprite>(TileColor.class);
+    
+    /** The item sprites, keyed by path. */
+    private static final Map<String, ISprite> itemSpriteMap = 
+            new HashMap<String, ISprite>();
+    
+    static
+    {
+        for (TileColor color : TileColor.values())
+        {
+            colorPathMap.put(color, 
+                    Settings.getSpriteResourcesPath() + "/Tile" + color + FILE_EXT);
+        }
+    }
+    
+    /**
+     * This class should not be instantiated.
+     */
+    private TileSprites()
+    { }
+    
+    /**
+     * Gets the path of the sprite for the given tile colour.
+     * 
+     * @param color
+     * @return The sprite path.
+     */
+    public static String getColorPath(TileColor color)
+    {
+        return colorPathMap.get(color);
+    }
+    
+    /**
+     * Gets the shared sprite for the given tile colour.
+     * 
+     * @param color
+     * @return The sprite.
+     */
+    public static synchronized ISprite getColorSprite(TileColor color)
+    {
+        ISprite sprite = colorSpriteMap.get(color);
+        
+        if (sprite == null)
+        {
+            sprite = ResourceFactory.get().getSprite(colorPathMap.get(color));
+            colorSpriteMap.put(color, sprite);
+        }
+        
+        return sprite;
+    }
+    
+    /**
+     * Gets the shared item sprite for the given path.
+     * 
+     * @param path
+     * @return The sprite.
+     */
+    public static synchronized ISprite getItemSprite(String path)
+    {
+        ISprite sprite = itemSpriteMap.get(path);
+        
+        if (sprite == null)
+        {
+            sprite = ResourceFactory.get().getSprite(path);
+            itemSpriteMap.put(path, sprite);
+        }
+        
+        return sprite;
+    }
+    
+}
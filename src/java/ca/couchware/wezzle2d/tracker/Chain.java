@@ -8,6 +8,7 @@ package ca.couchware.wezzle2d.tracker;
 import ca.couchware.wezzle2d.tile.Tile;
 import ca.couchware.wezzle2d.util.Node;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -26,6 +27,12 @@ public class Chain
 
     /** The chain tree. */
     private Node<Tile> chainTree;
+
+    /** The ids of the collision patterns the chain tree matches. */
+    private BitSet matchSet;
+
+    /** The number of collision patterns there were when the set was made. */
+    private int matchCount;
     
     /**
      * Constructor private to ensure immutability.
@@ -114,6 +121,25 @@ public class Chain
         return chainTree;
     }
 
+    /**
+     * Checks if the chain tree matches a collision pattern at its root or
+     * at one of its item tiles.  The tree is matched against every pattern
+     * the first time this is called.
+     *
+     * @param pattern
+     * @return True if the pattern is matched, false otherwise.
+     */
+    public boolean matches(CollisionPattern pattern)
+    {
+        if (matchSet == null || matchCount != CollisionPattern.getCount())
+        {
+            matchCount = CollisionPattern.getCount();
+            matchSet = CollisionPattern.match(chainTree);
+        }
+
+        return matchSet.get(pattern.getId());
+    }
+
     /**
      * Get the size of the chain.
      * @return
@@ -0,0 +1,235 @@
+/*
+ *  Wezzle
+ *  Copyright (c) 2007-2010 Couchware Inc.  All rights reserved.
+ */
+package ca.couchware.wezzle2d.tracker;
+
+import ca.couchware.wezzle2d.tile.Tile;
+import ca.couchware.wezzle2d.tile.TileHelper;
+import ca.couchware.wezzle2d.tile.TileType;
+import ca.couchware.wezzle2d.util.Node;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The item tree of a COLLISION rule, interned by its canonical form.  Two
+ * rules with the same tree, or trees that share a branch, share the same
+ * pattern objects, so each distinct pattern is only matched once per chain.
+ *
+ * A chain tree node matches a pattern if the pattern's children match, in
+ * order, some of the node's children: each child's tile type must be in
+ * the pattern child's type set, and the child must match the pattern
+ * child in turn.  A pattern with no children matches any node.
+ *
+ * @author cdmckay
+ */
+public final class CollisionPattern
+{
+    /** Every pattern, by canonical form. */
+    final private static Map<CollisionPattern, CollisionPattern> internMap =
+            new HashMap<CollisionPattern, CollisionPattern>();
+
+    /** Every pattern, by id.  Children always come before their parents. */
+    final private static List<CollisionPattern> patternList =
+            new ArrayList<CollisionPattern>();
+
+    /** The index of the pattern in the pattern list. */
+    private int id = -1;
+
+    /** The tile types allowed for each child. */
+    final private List<Set<TileType>> childTypeList;
+
+    /** The pattern each child must match. */
+    final private List<CollisionPattern> childList;
+
+    /** The canonical structural hash. */
+    final private int hash;
+
+    private CollisionPattern(List<Set<TileType>> childTypeList,
+            List<CollisionPattern> childList)
+    {
+        this.childTypeList = childTypeList;
+        this.childList = childList;
+
+        int h = 17;
+
+        for (int i = 0; i < childList.size(); i++)
+        {
+            h = 31 * h + childTypeList.get(i).hashCode();
+            h = 31 * h + childList.get(i).id;
+        }
+
+        this.hash = h;
+    }
+
+    /**
+     * Get the pattern for a rule's item tree.  The data of the root is not
+     * used.
+     *
+     * @param tree
+     * @return The interned pattern.
+     */
+    public static synchronized CollisionPattern intern(Node<Set<TileType>> tree)
+    {
+        List<Set<TileType>> childTypeList = new ArrayList<Set<TileType>>();
+        List<CollisionPattern> childList = new ArrayList<CollisionPattern>();
+
+        for (Node<Set<TileType>> child : tree.getChildren())
+        {
+            Set<TileType> typeSet = EnumSet.noneOf(TileType.class);
+            typeSet.addAll(child.getData());
+
+            childTypeList.add(Collections.unmodifiableSet(typeSet));
+            childList.add(intern(child));
+        }
+
+        CollisionPattern pattern = new CollisionPattern(childTypeList, childList);
+        CollisionPattern interned = internMap.get(pattern);
+
+        if (interned != null)
+            return interned;
+
+        pattern.id = patternList.size();
+        patternList.add(pattern);
+        internMap.put(pattern, pattern);
+
+        return pattern;
+    }
+
+    /**
+     * Get the number of patterns interned so far.
+     *
+     * @return
+     */
+    static synchronized int getCount()
+    {
+        return patternList.size();
+    }
+
+    /**
+     * Get the ids of every pattern matched by the root of a chain tree or
+     * by one of its item tiles.  The tree is walked once, bottom-up.
+     *
+     * @param tree The chain tree.
+     * @return The set of matched pattern ids.
+     */
+    static synchronized BitSet match(Node<Tile> tree)
+    {
+        BitSet matchSet = new BitSet(patternList.size());
+        matchNode(tree, true, matchSet);
+        return matchSet;
+    }
+
+    /**
+     * Works out the patterns a node matches, after doing the same for its
+     * children.  The patterns matched by the candidate nodes are added to
+     * the match set.
+     *
+     * @return The ids of the patterns the node matches.
+     */
+    private static BitSet matchNode(Node<Tile> node, boolean root, BitSet matchSet)
+    {
+        final List<Node<Tile>> children = node.getChildren();
+        final List<BitSet> childMatchList = new ArrayList<BitSet>(children.size());
+
+        for (Node<Tile> child : children)
+        {
+            childMatchList.add(matchNode(child, false, matchSet));
+        }
+
+        BitSet nodeMatchSet = new BitSet(patternList.size());
+
+        for (CollisionPattern pattern : patternList)
+        {
+            if (pattern.matches(children, childMatchList))
+            {
+                nodeMatchSet.set(pattern.id);
+            }
+        }
+
+        if (root || TileHelper.getItemTileTypeSet().contains(node.getData().getType()))
+        {
+            matchSet.or(nodeMatchSet);
+        }
+
+        return nodeMatchSet;
+    }
+
+    /**
+     * Checks if the pattern's children match the node's children in order.
+     */
+    private boolean matches(List<Node<Tile>> children, List<BitSet> childMatchList)
+    {
+        if (childList.isEmpty())
+            return true;
+
+        int k = 0;
+
+        for (int i = 0; i < children.size(); i++)
+        {
+            if (childTypeList.get(k).contains(children.get(i).getData().getType())
+                    && childMatchList.get(i).get(childList.get(k).id))
+            {
+                k++;
+
+                if (k == childList.size())
+                    return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Get the index of the pattern.
+     *
+     * @return
+     */
+    int getId()
+    {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (o == this)
+        {
+            return true;
+        }
+        if (!(o instanceof CollisionPattern))
+        {
+            return false;
+        }
+
+        // The children are interned, so they can be compared by identity.
+        CollisionPattern pattern = (CollisionPattern) o;
+
+        if (pattern.childList.size() != childList.size())
+            return false;
+
+        for (int i = 0; i < childList.size(); i++)
+        {
+            if (pattern.childList.get(i) != childList.get(i)
+                    || !pattern.childTypeList.get(i).equals(childTypeList.get(i)))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return hash;
+    }
+
+}
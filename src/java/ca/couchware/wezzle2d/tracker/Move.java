@@ -5,13 +5,10 @@
 
 package ca.couchware.wezzle2d.tracker;
 
-import ca.couchware.wezzle2d.tile.Tile;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * An immutable class that holds the information about a single move. A
@@ -70,35 +67,6 @@ public class Move
         return Collections.unmodifiableList(this.chainList);
     }
 
-    /**
-     * Get a list of all the tile types in a move.
-     * @return An unmodifiable list of tile types.
-     */
-    public Set<Tile> getTileSet()
-    {
-        // We do this by first getting the chains, 
-        // followed by the tile groups. Throwing them into
-        // HashSets to ensure we only get unique tiles, no overcounts.
-        Set<Tile> tileSet = new HashSet<Tile>();
-        List<Chain> chains = this.getChainList();
-
-        for ( Chain c : chains )
-        {
-
-            List<TileGroup> grpList = c.getTileGroupList();
-
-            for(TileGroup tg : grpList)
-            {
-                tileSet.addAll(tg.getUniqueTiles());
-            }
-           
-        }
-
-        return Collections.unmodifiableSet(tileSet);
-    }
-
- 
-
     /**
      * Get the number of lines in this move.
      * @return
@@ -7,9 +7,7 @@ package ca.couchware.wezzle2d.tracker;
 
 import ca.couchware.wezzle2d.Game;
 import ca.couchware.wezzle2d.ManagerHub;
-import ca.couchware.wezzle2d.Rule;
 import ca.couchware.wezzle2d.Rule.NumeratorSubType;
-import ca.couchware.wezzle2d.event.CollisionEvent;
 import ca.couchware.wezzle2d.event.IScoreListener;
 import ca.couchware.wezzle2d.event.ScoreEvent;
 import ca.couchware.wezzle2d.manager.IResettable;
@@ -17,11 +15,9 @@ import ca.couchware.wezzle2d.manager.ListenerManager;
 import ca.couchware.wezzle2d.tile.Tile;
 import ca.couchware.wezzle2d.tile.TileType;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 /**
@@ -32,11 +28,23 @@ import java.util.Set;
 public class Tracker implements IScoreListener, IResettable
 {
 
+    /** The number of moves the counts can look back over. */
+    final public static int HISTORY_CAPACITY = 100;
+
     /** The listener manager. */
     final private ListenerManager listenerMan;
 
-    /** The game history. */
-    final private List<Move> history;
+    /**
+     * The running totals for each numerator sub-type, in a ring.  Entry i
+     * holds the totals after move i, so the counts over the last n moves
+     * are the difference of two entries.  The subtraction still works if a
+     * total overflows.
+     */
+    final private int[][] totals =
+            new int[HISTORY_CAPACITY + 1][NumeratorSubType.values().length];
+
+    /** The number of moves finished since the last reset. */
+    private int moveCount = 0;
 
     /** The current move being tracked. */
     private List<Chain> chainList;
@@ -58,9 +66,6 @@ public class Tracker implements IScoreListener, IResettable
         // Add a chain list to hold the first move.
         this.chainList = new ArrayList<Chain>();
 
-        // The history.
-        this.history = new ArrayList<Move>();
-
         // Add a tile group list to hold the first chain.
         this.tileGroupList = new ArrayList<TileGroup>();
 
@@ -96,7 +101,7 @@ public class Tracker implements IScoreListener, IResettable
         this.chainList.add(chain);
 
         // Notify all listeners that a collision might've occured.
-        this.listenerMan.notifyCollisionOccured(new CollisionEvent(this, chain), hub, game.getDifficulty());
+        this.listenerMan.notifyCollisionOccured(this, chain, hub, game.getDifficulty());
 
         // Create a new chain list for the next move.
         this.tileGroupList = new ArrayList<TileGroup>();
@@ -106,14 +111,16 @@ public class Tracker implements IScoreListener, IResettable
     }
 
     /**
-     * Complete the current move.  Automatically starts a new move.
+     * Complete the current move.  Automatically starts a new move.  The
+     * move is not kept, since its tiles are recycled once it is finished.
      * @return The move that was just completed.
      */
     public Move finishMove()
     {
-        // Add the current move to the history.
+        // Build the move and add it to the running totals.
         Move move = Move.newInstance(chainList, score);
-        this.history.add(move);
+        addTotals(move);
+        this.moveCount++;
 
         // Create a new chain list for the next move.
         this.chainList = new ArrayList<Chain>();
@@ -126,125 +133,123 @@ public class Tracker implements IScoreListener, IResettable
     }
 
     /**
-     * Get the last n moves from the history.
-     * NOTE: Order is reversed. Last move is first.
+     * Get the number of moves the counts can look back over.
+     *
+     * @return The number of moves, up to {@link #HISTORY_CAPACITY}.
+     */
+    public int getHistorySize()
+    {
+        return Math.min(moveCount, HISTORY_CAPACITY);
+    }
+
+    /**
+     * Get the number of moves finished since the tracker was last reset.
      *
-     * @param n The number of moves you would like to see.
-     * @return An unmodifiable list of the last n moves in reverse order.
+     * @return The number of moves, including those no longer in the history.
      */
-    public List<Move> getHistory(int numMoves)
+    public int getMoveCount()
+    {
+        return moveCount;
+    }
+
+    /**
+     * Get the count for a numerator value over the last n moves.
+     *
+     * The counts are the number of rockets, stars, gravity tiles, bombs,
+     * 2x, 3x, 4x, items and multipliers removed, the number of lines made
+     * and the score earned.
+     *
+     * @param subType The numerator value to count.
+     * @param numMoves The number of moves to count over.
+     * @return The count.
+     */
+    public int getCount(NumeratorSubType subType, int numMoves)
     {
         if (numMoves < 0)
             throw new IllegalArgumentException("n must be a positive integer");
 
-        int historySize = history.size();
-
-        // Limit the size.
-        if (numMoves >historySize) numMoves = historySize;
+        numMoves = Math.min(numMoves, getHistorySize());
 
-       
-        // Get the sublist.
-        return Collections.unmodifiableList(history.subList(historySize-numMoves, historySize));
+        final int k = subType.ordinal();
+        return totals[moveCount % totals.length][k]
+                - totals[(moveCount - numMoves) % totals.length][k];
     }
 
     /**
-     * Get a mapping of all the counts for the numerator values in the list of
-     * moves.
-     *
-     * This will go through the moves counting the number of rockets, stars,
-     * gravity tiles, bombs, 2x, 3x, 4x, items, multipliers, collisions.
+     * Add the counts for a move to the running totals.
      *
-     * @param moves The list of moves.
-     * @return a mapping of numerator values to counts.
+     * @param move The move that was just finished.
      */
-    public Map<Rule.NumeratorSubType, Integer> getCounts(List<Move> moves)
+    private void addTotals(Move move)
     {
-        // get a set of all tiles distinct.
-        Set<Tile> tiles = new HashSet<Tile>();
-        int lines = 0;
+        final int[] counts = totals[(moveCount + 1) % totals.length];
+        System.arraycopy(totals[moveCount % totals.length], 0,
+                counts, 0, counts.length);
 
-        for( Move m : moves)
+        counts[NumeratorSubType.LINES.ordinal()] += move.getNumLines();
+        counts[NumeratorSubType.SCORE.ordinal()] += move.getScore();
+
+        // Count items.  A tile may be in more than one group, so the unique
+        // tiles are gathered first.  The tiles are only read here, as they
+        // are recycled once the move is finished.
+        Set<Tile> tileSet = new HashSet<Tile>();
+
+        for (Chain chain : move.getChainList())
         {
-            lines += m.getNumLines();
-            tiles.addAll(m.getTileSet());
-            score += m.getScore();
+            for (TileGroup group : chain.getTileGroupList())
+            {
+                tileSet.addAll(group.getUniqueTiles());
+            }
         }
 
-        // Count items.
-        int
-                rocket = 0,
-                gravity = 0,
-                bomb = 0,
-                star = 0,
-                x2 = 0,
-                x3 = 0,
-                x4 = 0;
-
-        for(Tile t : tiles)
+        for (Tile t : tileSet)
         {
             TileType type = t.getType();
 
-            switch(type)
+            switch (type)
             {
                 case NORMAL:
                     break;
 
                 case ROCKET:
-                    rocket++;
+                    counts[NumeratorSubType.ROCKET.ordinal()]++;
+                    counts[NumeratorSubType.ALL_ITEMS.ordinal()]++;
                     break;
 
                 case BOMB:
-                    bomb++;
+                    counts[NumeratorSubType.BOMB.ordinal()]++;
+                    counts[NumeratorSubType.ALL_ITEMS.ordinal()]++;
                     break;
 
                 case STAR:
-                    star++;
+                    counts[NumeratorSubType.STAR.ordinal()]++;
+                    counts[NumeratorSubType.ALL_ITEMS.ordinal()]++;
                     break;
 
                 case GRAVITY:
-                    gravity++;
+                    counts[NumeratorSubType.GRAVITY.ordinal()]++;
+                    counts[NumeratorSubType.ALL_ITEMS.ordinal()]++;
                     break;
 
                 case X2:
-                    x2++;
+                    counts[NumeratorSubType.X2.ordinal()]++;
+                    counts[NumeratorSubType.ALL_MULTIPLIERS.ordinal()]++;
                     break;
 
                 case X3:
-                    x3++;
+                    counts[NumeratorSubType.X3.ordinal()]++;
+                    counts[NumeratorSubType.ALL_MULTIPLIERS.ordinal()]++;
                     break;
 
                 case X4:
-                    x4++;
+                    counts[NumeratorSubType.X4.ordinal()]++;
+                    counts[NumeratorSubType.ALL_MULTIPLIERS.ordinal()]++;
                     break;
 
                 default:
                     throw new RuntimeException("Unknown tile type: " + type);
             }
-
         }
-
-        // Create a mapping of SubType -> Value.
-        Map<Rule.NumeratorSubType, Integer> countMap =
-             new HashMap<Rule.NumeratorSubType, Integer>();
-
-        countMap.put(NumeratorSubType.BOMB, bomb);
-        countMap.put(NumeratorSubType.GRAVITY, gravity);
-        countMap.put(NumeratorSubType.ALL_ITEMS, (rocket + bomb + gravity + star));
-        countMap.put(NumeratorSubType.LINES, lines);
-        countMap.put(NumeratorSubType.ALL_MULTIPLIERS, (x2 + x3 + x4));
-        countMap.put(NumeratorSubType.ROCKET, rocket);
-        countMap.put(NumeratorSubType.SCORE, score);
-        countMap.put(NumeratorSubType.STAR, star);
-        countMap.put(NumeratorSubType.X2, x2);
-        countMap.put(NumeratorSubType.X3, x3);
-        countMap.put(NumeratorSubType.X4, x4);
-
-//        String message = "Bomb: " + bomb + " Gravity: "+ gravity + " ROCKET: " +
-//                rocket + " Star " + star;
-//
-//        CouchLogger.get().recordMessage(this.getClass(), message);
-        
-        return countMap;
     }
 
     public void scoreIncreased(ScoreEvent event) {
@@ -264,7 +269,8 @@ public class Tracker implements IScoreListener, IResettable
         // Clear the lists and Score.
         this.chainList.clear();
         this.tileGroupList.clear();
-        this.history.clear();
+        Arrays.fill(this.totals[0], 0);
+        this.moveCount = 0;
         this.score = 0;
     }
 
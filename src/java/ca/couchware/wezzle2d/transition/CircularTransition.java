@@ -6,27 +6,39 @@
 package ca.couchware.wezzle2d.transition;
 
 import ca.couchware.wezzle2d.Game;
+import ca.couchware.wezzle2d.IGraphics;
+import ca.couchware.wezzle2d.IWindow;
 import ca.couchware.wezzle2d.util.IBuilder;
 import ca.couchware.wezzle2d.graphics.IDrawer;
 import ca.couchware.wezzle2d.manager.Settings;
 import ca.couchware.wezzle2d.util.NumUtil;
 import java.awt.Shape;
-import java.awt.geom.Ellipse2D;
 
 /**
  * A layer manager transition that introduces a layer manager using a slowly
- * growing circle.
+ * growing circle.  The outgoing screen is captured when the transition 
+ * starts and drawn around the circle, so no clipping is needed.
  * 
  * @author cdmckay
  */
 public class CircularTransition extends AbstractTransition
 {
 
+    /**
+     * The graphics used to capture and draw the outgoing screen.
+     */
+    private final IGraphics graphics;
+    
     /**
      * The layer manager used in the transition.
      */
     private final IDrawer drawer;
     
+    /**
+     * Whether or not the outgoing screen has been captured.
+     */
+    private boolean captured = false;
+    
     /**
      * The number of milliseconds that have passed in this transition.
      */
@@ -74,6 +86,7 @@ public class CircularTransition extends AbstractTransition
      */    
     private CircularTransition(Builder builder)
     {
+        this.graphics = builder.win.getGraphics();
         this.drawer = builder.drawer;
         this.currentRadius = builder.minRadius;
         this.minRadius = builder.minRadius;
@@ -84,6 +97,7 @@ public class CircularTransition extends AbstractTransition
     
     public static class Builder implements IBuilder<CircularTransition>
     {       
+        private final IWindow win;
         private final IDrawer drawer;
         
         private int speed = 500;
@@ -93,8 +107,9 @@ public class CircularTransition extends AbstractTransition
         private int wait = 0;
         //private int duration = 500;
         
-        public Builder(IDrawer drawer)
+        public Builder(IWindow win, IDrawer drawer)
         { 
+            this.win = win;
             this.drawer = drawer;
         }       
         
@@ -148,21 +163,38 @@ public class CircularTransition extends AbstractTransition
             currentRadius = minRadius + deltaRadius;
             
             if (currentRadius >= maxRadius)
+            {
+                graphics.releaseCapturedScreen();
                 setFinished();
+            }
         }        
     }
 
     public boolean draw()
     {
         //LogManager.recordMessage("currentRadius = " + currentRadius);
+        
+        // Hold on to the outgoing screen before anything is drawn over it.
+        if (captured == false)
+        {
+            this.graphics.captureScreen();
+            captured = true;
+        }
+        
         if (waitFinished == true)
         {
-            this.drawer.draw(new Ellipse2D.Double(
-                    Game.SCREEN_RECTANGLE.getCenterX() - currentRadius,
-                    Game.SCREEN_RECTANGLE.getCenterY() - currentRadius,
-                    currentRadius * 2,
-                    currentRadius * 2),
-                    true);
+            // Draw the incoming screen, then put the outgoing one back 
+            // around the circle.
+            this.drawer.draw();
+            
+            if (this.finished == false)
+            {
+                this.graphics.drawCapturedScreenAroundEllipse(
+                        Game.SCREEN_RECTANGLE.getCenterX() - currentRadius,
+                        Game.SCREEN_RECTANGLE.getCenterY() - currentRadius,
+                        currentRadius * 2,
+                        currentRadius * 2);
+            }
         }       
         
         return true;
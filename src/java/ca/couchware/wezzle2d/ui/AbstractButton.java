@@ -7,7 +7,7 @@ package ca.couchware.wezzle2d.ui;
 import ca.couchware.wezzle2d.IGraphics;
 import ca.couchware.wezzle2d.IWindow;
 import ca.couchware.wezzle2d.ResourceFactory;
-import ca.couchware.wezzle2d.event.IMouseListener;
+import ca.couchware.wezzle2d.event.IMouseRegionListener;
 import ca.couchware.wezzle2d.event.MouseEvent;
 import ca.couchware.wezzle2d.graphics.AbstractEntity;
 import ca.couchware.wezzle2d.util.ImmutablePosition;
@@ -23,7 +23,7 @@ import java.util.List;
  * @author cdmckay
  */
 public abstract class AbstractButton extends AbstractEntity implements
-        IButton, IMouseListener
+        IButton, IMouseRegionListener
 {
     /**
      * Is the mouse on or off the button.
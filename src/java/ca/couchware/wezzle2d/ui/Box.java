@@ -15,8 +15,8 @@ import ca.couchware.wezzle2d.graphics.AbstractEntity;
 import ca.couchware.wezzle2d.graphics.ISprite;
 import ca.couchware.wezzle2d.manager.Settings;
 import ca.couchware.wezzle2d.util.ImmutablePosition;
+import ca.couchware.wezzle2d.util.CouchColor;
 import ca.couchware.wezzle2d.util.ImmutableRectangle;
-import java.awt.Color;
 import java.util.EnumSet;
 
 /**
@@ -107,9 +107,9 @@ public class Box extends AbstractEntity implements IMouseListener
     protected Border border;
     
     /**
-     * The color of the window background.
+     * The color of the window background, packed as an ARGB int.
      */
-    protected Color color;
+    protected int color;
     
     /**
      * Creates a window with it's top-left corner at (x,y) and the given
@@ -167,7 +167,7 @@ public class Box extends AbstractEntity implements IMouseListener
         
         // Create the background colour.  This colour is changed each time
         // the opacity is changed.
-        this.color = new Color(0, 0, 0, ((float) opacity) / 100.0f);
+        this.color = CouchColor.withAlpha(CouchColor.BLACK, CouchColor.scaleOpacity(opacity));
     }
     
     public static class Builder implements IBuilder<Box>
@@ -262,7 +262,7 @@ public class Box extends AbstractEntity implements IMouseListener
         super.setOpacity(opacity);
         
         // Reset the color.
-        this.color = new Color(0, 0, 0, ((float) opacity) / 100.0f);
+        this.color = CouchColor.withAlpha(CouchColor.BLACK, CouchColor.scaleOpacity(opacity));
     }
     
     /**
@@ -291,71 +291,61 @@ public class Box extends AbstractEntity implements IMouseListener
         // Draw the corners.
         
         // Top left.
-        cornerSprite.draw(x + offsetX, y + offsetY)                
-                .opacity(opacity)
-                .end();
+        final int cw = cornerSprite.getWidth();
+        final int ch = cornerSprite.getHeight();
+        
+        cornerSprite.draw(x + offsetX, y + offsetY, 
+                cw, ch, 0.0, 0, 0, opacity);
         
         // Top right.
         cornerSprite.draw(
-                x + offsetX + width - cornerSprite.getWidth(), 
-                y + offsetY)               
-                .opacity(opacity)
-                .theta(Math.toRadians(90), cornerSprite.getWidth() / 2, cornerSprite.getHeight() / 2)
-                .end();
+                x + offsetX + width - cw, 
+                y + offsetY,
+                cw, ch, Math.toRadians(90), cw / 2, ch / 2, opacity);
         
         // Bottom left.
         cornerSprite.draw(
                 x + offsetX,  
-                y + offsetY + height - cornerSprite.getWidth())               
-                .opacity(opacity)
-                .theta(Math.toRadians(-90), cornerSprite.getWidth() / 2, cornerSprite.getHeight() / 2)
-                .end();      
+                y + offsetY + height - cw,
+                cw, ch, Math.toRadians(-90), cw / 2, ch / 2, opacity);
         
         // Bottom right.
         cornerSprite.draw(
-                x + offsetX + width  - cornerSprite.getWidth(), 
-                y + offsetY + height - cornerSprite.getHeight())               
-                .opacity(opacity)
-                .theta(Math.toRadians(180), cornerSprite.getWidth() / 2, cornerSprite.getHeight() / 2)
-                .end();               
+                x + offsetX + width  - cw, 
+                y + offsetY + height - ch,
+                cw, ch, Math.toRadians(180), cw / 2, ch / 2, opacity);
         
         // Draw the horizontal sides.
+        int w = width - cw * 2;
         horizontalSprite.draw(
-                x + offsetX + cornerSprite.getWidth(), 
-                y + offsetY)
-                .width(width - cornerSprite.getWidth() * 2)               
-                .opacity(opacity)
-                .end();
-        
-        // Bottom.        
-        int w = width - cornerSprite.getWidth() * 2;
+                x + offsetX + cw, 
+                y + offsetY,
+                w, horizontalSprite.getHeight(), 0.0, 0, 0, opacity);
+        
+        // Bottom.                
         horizontalSprite.draw(
-                x + offsetX + cornerSprite.getWidth(), 
-                y + offsetY + height - cornerSprite.getHeight())
-                .width(w)                
-                .theta(Math.toRadians(180), w / 2, horizontalSprite.getHeight() / 2)
-                .opacity(opacity)
-                .end();
+                x + offsetX + cw, 
+                y + offsetY + height - ch,
+                w, horizontalSprite.getHeight(),
+                Math.toRadians(180), w / 2, horizontalSprite.getHeight() / 2, 
+                opacity);
                
         // Draw the vertical sides.
         
         // Left.
+        int h = height - ch * 2;
         verticalSprite.draw(
                 x + offsetX, 
-                y + offsetY + cornerSprite.getHeight())                
-                .height(height - cornerSprite.getHeight() * 2)
-                .opacity(opacity)
-                .end();
+                y + offsetY + ch,
+                verticalSprite.getWidth(), h, 0.0, 0, 0, opacity);
         
-        // Right.
-        int h = height - cornerSprite.getHeight() * 2;
+        // Right.        
         verticalSprite.draw(
-                x + offsetX + width - cornerSprite.getWidth(), 
-                y + offsetY + cornerSprite.getHeight())               
-                .height(h)
-                .theta(Math.toRadians(180), verticalSprite.getWidth() / 2, h / 2)
-                .opacity(opacity)
-                .end();
+                x + offsetX + width - cw, 
+                y + offsetY + ch,
+                verticalSprite.getWidth(), h,
+                Math.toRadians(180), verticalSprite.getWidth() / 2, h / 2, 
+                opacity);
         
         return true;
     }        
@@ -85,7 +85,7 @@ public class Button extends AbstractButton
     protected int activeOpacity;
     
     /** The normal text. */
-    protected final String normalText;
+    protected String normalText;
     
     /** The hover text. */
     protected final String hoverText;
@@ -320,15 +320,15 @@ public class Button extends AbstractButton
         final int X = x + offsetX;
         final int Y = y + offsetY;
         
-        leftSprite.draw(X, Y)
-                .width(leftSprite.getWidth()).height(height).opacity(o).end();
+        leftSprite.draw(X, Y, 
+                leftSprite.getWidth(), height, 0.0, 0, 0, o);
                 
-        middleSprite.draw(X + leftSprite.getWidth(), Y)
-                .width(width - leftSprite.getWidth() - rightSprite.getWidth())
-                .height(height).opacity(o).end();
+        middleSprite.draw(X + leftSprite.getWidth(), Y,
+                width - leftSprite.getWidth() - rightSprite.getWidth(), height,
+                0.0, 0, 0, o);
         
-        rightSprite.draw(X + width - leftSprite.getWidth(), Y)
-                .width(rightSprite.getWidth()).height(height).opacity(o).end();                
+        rightSprite.draw(X + width - leftSprite.getWidth(), Y,
+                rightSprite.getWidth(), height, 0.0, 0, 0, o);                
     }
     
     protected void drawNormal()
@@ -452,6 +452,32 @@ public class Button extends AbstractButton
         return normalText;
     }
 
+    /**
+     * Changes the normal text of the button.  If the button is auto-width,
+     * it is resized to fit the new text.
+     * 
+     * @param text The new text.
+     */
+    public void setText(String text)
+    {
+        if (text.equals(normalText))
+            return;
+        
+        this.normalText = text;
+        normalLabel.setText(text);
+        
+        if (autoWidth)
+        {
+            this.width = normalLabel.getWidth() + autoWidthPadding;
+            this.offsetX = determineOffsetX(alignment, width);
+            
+            // Re-position the shape and labels for the new width.
+            setX(x);
+        }
+        
+        setDirty(true);
+    }
+
     public String getHoverText()
     {
         return hoverText;
@@ -41,7 +41,14 @@ public class Scroller extends AbstractEntity implements IMouseListener
     /** The padding. */
     private Padding padding;
     
-    /** The list of options in the scroller. */
+    /** The list of items in the scroller. */
+    final private List<ScrollerItem> itemList;
+    
+    /** 
+     * The rows that are actually shown.  There are only ever as many rows
+     * as fit in the scroller, and they are re-bound to different items as 
+     * the scroller scrolls.
+     */
     final private List<ScrollerRow> rowList;
     
     /** The slider bar used to scroll the scroller. */
@@ -84,15 +91,19 @@ public class Scroller extends AbstractEntity implements IMouseListener
         this.shape = new ImmutableRectangle(x + offsetX, y + offsetY, 
                 width, height);
         
-        // Create the button list.
-        this.rowList = new ArrayList<ScrollerRow>();
+        // Create the item list.
+        this.itemList = new ArrayList<ScrollerItem>(builder.optionList.size());
+        
+        // Create only as many rows as can be seen at once.
+        final int rowCount = Math.min(rows, builder.optionList.size());
+        this.rowList = new ArrayList<ScrollerRow>(rowCount);
         
-        // Create all the buttons.
         IButton templateButton = new Button.Builder(win, 0, 0)
                 .text("").textSize(textSize)
+                .visible(false)
                 .build();
         
-        for (String optionText : builder.optionList)
+        for (int i = 0; i < rowCount; i++)
         {
             IButton button = new Button.Builder((Button) templateButton)
                 .alignment(EnumSet.of(Alignment.MIDDLE, Alignment.LEFT))
@@ -100,25 +111,38 @@ public class Scroller extends AbstractEntity implements IMouseListener
                 .normalOpacity(0)
                 .activeOpacity(100)
                 .visible(false)
-                .text(optionText)                
+                .text(builder.optionList.get(i))                
                 .build();
+            
+            button.setX(this.x + offsetX + padding.getLeft());
+            button.setY(this.y + offsetY + padding.getTop() + (spacing / 2) + spacing * i);
 
             ITextLabel label = new ResourceFactory.LabelBuilder(0, 0)
                 .alignment(EnumSet.of(Alignment.MIDDLE, Alignment.RIGHT))
                 .visible(false)
                 .text("").size(11)
                 .build();
+            
+            label.setX(getX() + getWidth() - 50);
+            label.setY(this.y + offsetY + padding.getTop() + (spacing / 2) + spacing * i);
 
             rowList.add( new ScrollerRow(button, label) );
         }
         
+        // The items start out with the default row colors.
+        final Color textColor = ((Button) templateButton).getTextColor();
+        final Color labelColor = rowList.isEmpty() 
+                ? null 
+                : rowList.get(0).getLabel().getColor();
+        
+        for (String optionText : builder.optionList)
+        {
+            itemList.add( new ScrollerItem(optionText, textColor, labelColor) );
+        }
+        
         // Set the selected index.
         this.selectedIndex = builder.selectedIndex;
-        if (builder.selectedIndex != -1)            
-        {
-            rowList.get(selectedIndex).getButton().setActivated(true);
-        }            
-            
+        
         // Create the scroll bar.
         this.scrollBar = new SliderBar.Builder(win,
                     this.x + this.offsetX + this.width - padding.getRight(),
@@ -127,7 +151,7 @@ public class Scroller extends AbstractEntity implements IMouseListener
                 .height(this.height - padding.getTop() - padding.getBottom())
                 .alignment(EnumSet.of(Alignment.MIDDLE, Alignment.CENTER))
                 .orientation(SliderBar.Orientation.VERTICAL)
-                .virtualRange(0, Math.max(0, rowList.size() - rows))
+                .virtualRange(0, Math.max(0, itemList.size() - rows))
                 .virtualValue(0)                
                 .build();
         
@@ -263,35 +287,60 @@ public class Scroller extends AbstractEntity implements IMouseListener
     }
 
     /**
-     * Updates the buttons in the scroller, setting their positions
-     * and visibility.
+     * Binds the rows to the items at the current scroll offset and 
+     * makes them visible.
      */
     private void showButtons()
     {
         // Make sure the offset isn't too high.
-        if ( scrollOffset > (rowList.size() - rows) )
+        if ( scrollOffset > Math.max(0, itemList.size() - rows) )
             throw new IllegalStateException("Offset is too high");
                     
-        // Make all labels invisible.
-        for (ScrollerRow r : rowList)
+        for (int i = 0; i < rowList.size(); i++)
         {
-            r.getButton().setVisible(false);
-            r.getLabel().setVisible(false);
+            bindRow(i);
+            
+            ScrollerRow row = rowList.get(i);
+            row.getButton().setVisible(true);
+            row.getLabel().setVisible(true);
         }
+    }
+    
+    /**
+     * Binds a row to the item that is currently scrolled into it.
+     * 
+     * @param row The index of the row.
+     */
+    private void bindRow(int row)
+    {
+        final int index = row + scrollOffset;
+        final ScrollerItem item = itemList.get(index);
+        final ScrollerRow r = rowList.get(row);
         
-        // Move the labels into the right position.
-        for (int i = 0; i < rows; i++)
-        {
-            IButton button = rowList.get(i + scrollOffset).getButton();
-            button.setX(this.x + offsetX + padding.getLeft());
-            button.setY(this.y + offsetY + padding.getTop() + (spacing / 2) + spacing * i);
-            button.setVisible(true);
-
-            ITextLabel label = rowList.get(i + scrollOffset).getLabel();
-            label.setX(getX() + getWidth() - 50);
-            label.setY(this.y + offsetY + padding.getTop() + (spacing / 2) + spacing * i);
-            label.setVisible(true);
-        }
+        Button button = (Button) r.getButton();
+        button.setText(item.text);
+        button.setTextColor(item.textColor);
+        button.setActivated(index == selectedIndex);
+        
+        ITextLabel label = r.getLabel();
+        label.setText(item.labelText);
+        label.setColor(item.labelColor);
+    }
+    
+    /**
+     * Gets the row an item is currently bound to.
+     * 
+     * @param index The index of the item.
+     * @return The row, or null if the item is scrolled out of view.
+     */
+    private ScrollerRow getRowFor(int index)
+    {
+        final int row = index - scrollOffset;
+        
+        if (row < 0 || row >= rowList.size())
+            return null;
+        
+        return rowList.get(row);
     }
 
     private void hideButtons()
@@ -359,80 +408,52 @@ public class Scroller extends AbstractEntity implements IMouseListener
         
         for (int i = 0; i < rowList.size(); i++)
         {
-            if (i != selectedIndex)          
+            if (i + scrollOffset != selectedIndex)          
             {
                 this.rowList.get(i).getButton().setActivated(false);
-
             }            
         } // end for            
     }      
     
     public Color getColor(int index)
     {
-        if(index < 0 || index >= rowList.size())
+        if(index < 0 || index >= itemList.size())
             throw new IllegalArgumentException("Index is out of range");
         
-        IButton button = rowList.get(index).getButton();
-        
-        if (button instanceof Button)
-        {
-            return ((Button) button).getTextColor();
-        }                
-        else
-        {
-            throw new RuntimeException("No button instance found");
-        }
+        return itemList.get(index).textColor;
     }
     
     public void setColor(int index, Color color)
     {
-        if(index < 0 || index >= rowList.size())
+        if(index < 0 || index >= itemList.size())
             throw new IllegalArgumentException("Index is out of range");
         
-        IButton button = rowList.get(index).getButton();
+        itemList.get(index).textColor = color;
         
-        if (button instanceof Button)
-        {
-            ((Button) button).setTextColor(color);
-        }                
-        else
-        {
-            throw new RuntimeException("No button instance found");
-        }                
+        ScrollerRow row = getRowFor(index);
+        if (row != null) ((Button) row.getButton()).setTextColor(color);
     }
 
     public void setLabelColor(int index, Color color)
     {
-        if(index < 0 || index >= rowList.size())
+        if(index < 0 || index >= itemList.size())
             throw new IllegalArgumentException("Index is out of range");
 
-        ITextLabel label = rowList.get(index).getLabel();
-
-        if (label instanceof ITextLabel)
-        {
-            ((ITextLabel) label).setColor(color);
-        }
-        else
-        {
-            throw new UnsupportedOperationException();
-        }
+        itemList.get(index).labelColor = color;
+        
+        ScrollerRow row = getRowFor(index);
+        if (row != null) row.getLabel().setColor(color);
     }
 
     public void setLabelText(int index, String text)
     {
-        if(index < 0 || index >= rowList.size())
+        if(index < 0 || index >= itemList.size())
             throw new IllegalArgumentException("Index is out of range");
 
-        ITextLabel label = rowList.get(index).getLabel();
-
-        if (label instanceof ITextLabel)
-        {
-            ((ITextLabel) label).setText(text);
-        }
-        else
-        {
-            throw new UnsupportedOperationException();
-        }
+        itemList.get(index).labelText = text;
+        
+        ScrollerRow row = getRowFor(index);
+        if (row != null) row.getLabel().setText(text);
     }
     
     @Override
@@ -485,7 +506,7 @@ public class Scroller extends AbstractEntity implements IMouseListener
                 if (button.isVisible()
                         && button.getShape().contains(e.getPosition()))
                 {
-                    setSelectedIndex(i);                       
+                    setSelectedIndex(i + scrollOffset);                       
                     break;
                 }
             }
@@ -505,7 +526,7 @@ public class Scroller extends AbstractEntity implements IMouseListener
         int signum = -e.getDeltaWheel() / Math.abs(e.getDeltaWheel());
         int offset = scrollOffset + signum;
         
-        if (offset >= 0 && offset <= rowList.size() - rows)
+        if (offset >= 0 && offset <= itemList.size() - rows)
         {
             //scrollOffset = offset;
             scrollBar.setVirtualValue(offset);            
@@ -518,6 +539,34 @@ public class Scroller extends AbstractEntity implements IMouseListener
         // Stop listening to the mouse events.
         if (this.visible && !this.disabled)
             win.removeMouseListener(this);
+        
+        // Dispose of the rows too.
+        for (ScrollerRow row : rowList)
+        {
+            row.getButton().dispose();
+            row.getLabel().dispose();
+        }
+        
+        scrollBar.dispose();
+    }
+    
+    /**
+     * The data for an item in the scroller.  This is what a row is bound to
+     * when the item is scrolled into view.
+     */
+    private static class ScrollerItem
+    {
+        final String text;
+        Color textColor;
+        String labelText = "";
+        Color labelColor;
+        
+        public ScrollerItem(String text, Color textColor, Color labelColor)
+        {
+            this.text = text;
+            this.textColor = textColor;
+            this.labelColor = labelColor;
+        }
     }
 
     private class ScrollerRow
@@ -8,14 +8,11 @@ package ca.couchware.wezzle2d.ui;
 import ca.couchware.wezzle2d.graphics.ISprite;
 import ca.couchware.wezzle2d.graphics.AbstractEntity;
 import ca.couchware.wezzle2d.*;
-import ca.couchware.wezzle2d.event.IMouseListener;
+import ca.couchware.wezzle2d.event.IMouseRegionListener;
 import ca.couchware.wezzle2d.event.MouseEvent;
 import ca.couchware.wezzle2d.manager.Settings;
 import ca.couchware.wezzle2d.util.*;
-import java.awt.Color;
 import java.awt.Cursor;
-import java.awt.Rectangle;
-import java.awt.geom.RectangularShape;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
@@ -36,7 +33,7 @@ import java.util.List;
  * 
  * @author cdmckay
  */
-public class SliderBar extends AbstractEntity implements IMouseListener
+public class SliderBar extends AbstractEntity implements IMouseRegionListener
 {
     
     /** The possible orientations of the slider bar. */
@@ -83,7 +80,7 @@ public class SliderBar extends AbstractEntity implements IMouseListener
     /**
      * The shape of the button.
      */
-    private final RectangularShape shape;       
+    private final ImmutableRectangle shape;       
     
     /** The orientation of the slider bar. */
     private final Orientation orientation;
@@ -199,7 +196,7 @@ public class SliderBar extends AbstractEntity implements IMouseListener
         this.offsetY = determineOffsetY(alignment, height);
         
         // Save shape reference.
-        this.shape = new Rectangle(x + offsetX, y + offsetY, this.width, this.height);               
+        this.shape = new ImmutableRectangle(x + offsetX, y + offsetY, this.width, this.height);               
         
         // Start in normal state.
         this.state = State.NORMAL;
@@ -303,13 +300,13 @@ public class SliderBar extends AbstractEntity implements IMouseListener
     
     private void drawRail(int x, int y, int width, int height, int border)
     {
-        graphics.setColor(CouchColor.newInstance(
-                Color.BLACK, 
+        graphics.setColor(CouchColor.withAlpha(
+                CouchColor.BLACK, 
                 CouchColor.scaleOpacity(opacity)));
         graphics.fillRect(x, y, width + border * 2, height + border * 2);
         
-        graphics.setColor(CouchColor.newInstance(
-                Color.DARK_GRAY, 
+        graphics.setColor(CouchColor.withAlpha(
+                CouchColor.DARK_GRAY, 
                 CouchColor.scaleOpacity(opacity)));
         graphics.fillRect(x + border, y + border, width, height);
     }
@@ -400,6 +397,11 @@ public class SliderBar extends AbstractEntity implements IMouseListener
         synchronize();
     }
 
+    public ImmutableRectangle getShape()
+    {
+        return shape;
+    }
+
     public void mouseReleased(MouseEvent e)
     {
         //Util.handleMessage("Released.", Thread.currentThread());
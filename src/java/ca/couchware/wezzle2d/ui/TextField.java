@@ -323,13 +323,13 @@ public class TextField extends AbstractButton implements ITextField, IKeyListene
     
     private void drawUnderline(int x, int y, int width, int height, int border)
     {                
-        graphics.setColor(CouchColor.newInstance(
-                Color.BLACK, 
+        graphics.setColor(CouchColor.withAlpha(
+                CouchColor.BLACK, 
                 CouchColor.scaleOpacity(opacity)));
         graphics.fillRect(x, y, width + border * 2, height + border * 2);
         
-        graphics.setColor(CouchColor.newInstance(
-                Color.DARK_GRAY, 
+        graphics.setColor(CouchColor.withAlpha(
+                CouchColor.DARK_GRAY, 
                 CouchColor.scaleOpacity(opacity)));
         graphics.fillRect(x + border, y + border, width, height);
     }
@@ -16,22 +16,43 @@ import org.lwjgl.opengl.GL11;
 public class CouchColor implements IXMLizable
 {
 
+    /** The packed ARGB value of opaque black. */
+    final public static int BLACK = 0xFF000000;
+    
+    /** The packed ARGB value of opaque dark grey. */
+    final public static int DARK_GRAY = 0xFF404040;
+    
+    /** The packed ARGB value of opaque white. */
+    final public static int WHITE = 0xFFFFFFFF;
+    
     /** The instance of color this instance is wrapping. */
     private Color color;    
     
+    /** The color packed as an ARGB int. */
+    final private int argb;
+    
     private CouchColor(Color color)
     {
         this.color = color;
+        this.argb = color.getRGB();
     }
     
     private CouchColor(int red, int green, int blue)
     {
         this.color = new Color(red, green, blue);
+        this.argb = color.getRGB();
     }
     
     private CouchColor(int red, int green, int blue, int alpha)
     {
         this.color = new Color(red, green, blue, alpha);
+        this.argb = color.getRGB();
+    }
+    
+    private CouchColor(int argb)
+    {
+        this.color = new Color(argb, true);
+        this.argb = argb;
     }
     
     public static CouchColor newInstance(Color color)
@@ -54,6 +75,11 @@ public class CouchColor implements IXMLizable
         return new CouchColor(color.getRed(), color.getGreen(), color.getBlue(), alpha);
     }
     
+    public static CouchColor newInstance(int argb)
+    {
+        return new CouchColor(argb);
+    }
+    
     public static CouchColor newInstanceFromXml(Element element)
     {
         int r = Integer.parseInt(element.getAttributeValue("red"));
@@ -78,17 +104,67 @@ public class CouchColor implements IXMLizable
         return NumUtil.scaleInt(0, 100, 0, 255, val);
     }
     
+    /**
+     * Packs the given components into an ARGB int, the same layout used by
+     * {@link Color#getRGB()}.
+     * 
+     * @param red
+     * @param green
+     * @param blue
+     * @param alpha
+     * @return
+     */
+    public static int pack(int red, int green, int blue, int alpha)
+    {
+        return ((alpha & 0xFF) << 24) 
+                | ((red & 0xFF) << 16)
+                | ((green & 0xFF) << 8)
+                | (blue & 0xFF);
+    }
+    
+    /**
+     * Replaces the alpha component of a packed ARGB colour.
+     * 
+     * @param argb
+     * @param alpha
+     * @return
+     */
+    public static int withAlpha(int argb, int alpha)
+    {
+        return (argb & 0x00FFFFFF) | ((alpha & 0xFF) << 24);
+    }
+    
+    /**
+     * Bind a packed ARGB colour to the current GL context.
+     * 
+     * @param argb
+     */
+    public static void bind(int argb)
+    {
+        GL11.glColor4ub((byte) (argb >> 16),
+                        (byte) (argb >> 8),
+                        (byte) argb,
+                        (byte) (argb >>> 24));
+    }
+    
     /**
      * Bind the colour to the current GL context.
      */
     public void bind()
     {
-        GL11.glColor4f((float) color.getRed()   / 255f,
-                       (float) color.getGreen() / 255f,
-                       (float) color.getBlue()  / 255f,
-                       (float) color.getAlpha() / 255f);        
+        bind(argb);
     }   
     
+    /**
+     * Returns the colour packed as an ARGB int.
+     * 
+     * @return
+     */
+    public int toPacked()
+    {
+        return argb;
+    }
+    
     /**
      * Returns the underlying color instance.
      * 